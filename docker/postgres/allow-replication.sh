@@ -0,0 +1,3 @@
+#!/bin/sh
+# Accept streaming replication connections from the compose network
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
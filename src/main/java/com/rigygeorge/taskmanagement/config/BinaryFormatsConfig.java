@@ -0,0 +1,35 @@
+package com.rigygeorge.taskmanagement.config;
+
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * CBOR (application/cbor) and Smile (application/x-jackson-smile) next to
+ * JSON, for responses (Accept) and request bodies (Content-Type). They
+ * serialize the same DTOs as JSON does; UUIDs already go out as 16-byte
+ * binary values in both formats, and instants are written as numeric
+ * epoch seconds with the full nanosecond fraction instead of ISO strings.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    // Converter beans would be registered as custom converters, ahead of JSON,
+    // and answer requests without an Accept header. Set in the builder's CBOR
+    // and Smile slots they come after JSON and only win on an explicit Accept.
+    @Bean
+    public ServerHttpMessageConvertersCustomizer binaryFormatsConvertersCustomizer() {
+        return builder -> builder
+                .withCborConverter(new JacksonCborHttpMessageConverter(CBORMapper.builder()
+                        .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .build()))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(SmileMapper.builder()
+                        .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .build()));
+    }
+}
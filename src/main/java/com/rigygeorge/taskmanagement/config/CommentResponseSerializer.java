@@ -0,0 +1,47 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.dto.CommentResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+// Field-by-field CommentResponse writer, in declaration order; see TaskResponseSerializer
+public class CommentResponseSerializer extends StdSerializer<CommentResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TASK_ID = new SerializedString("taskId");
+    private static final SerializableString USER_ID = new SerializedString("userId");
+    private static final SerializableString USER_EMAIL = new SerializedString("userEmail");
+    private static final SerializableString USER_NAME = new SerializedString("userName");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    public CommentResponseSerializer() {
+        super(CommentResponse.class);
+    }
+
+    @Override
+    public void serialize(CommentResponse comment, JsonGenerator generator, SerializationContext context) {
+        generator.writeStartObject(comment);
+        generator.writeName(ID);
+        JsonText.writeUuid(generator, comment.getId());
+        generator.writeName(TASK_ID);
+        JsonText.writeUuid(generator, comment.getTaskId());
+        generator.writeName(USER_ID);
+        JsonText.writeUuid(generator, comment.getUserId());
+        generator.writeName(USER_EMAIL);
+        generator.writeString(comment.getUserEmail());
+        generator.writeName(USER_NAME);
+        generator.writeString(comment.getUserName());
+        generator.writeName(CONTENT);
+        generator.writeString(comment.getContent());
+        generator.writeName(CREATED_AT);
+        JsonText.writeInstant(generator, comment.getCreatedAt());
+        generator.writeName(UPDATED_AT);
+        JsonText.writeInstant(generator, comment.getUpdatedAt());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,28 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.dto.CommentResponse;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Hand-written JSON serializers for the DTOs of the busiest list endpoints.
+ * Spring Boot registers the module with the application JsonMapper, so they
+ * are used by the JSON message converter, the SSE stream and the task
+ * fragment cache. CBOR and Smile keep their own mappers (BinaryFormatsConfig)
+ * and their native binary UUIDs.
+ */
+@Configuration
+@ConditionalOnProperty(name = "json.hand-written-serializers", matchIfMissing = true)
+public class JsonSerializersConfig {
+
+    @Bean
+    public JacksonModule responseSerializersModule() {
+        return new SimpleModule("ResponseSerializers")
+                .addSerializer(TaskResponse.class, new TaskResponseSerializer())
+                .addSerializer(CommentResponse.class, new CommentResponseSerializer());
+    }
+}
@@ -0,0 +1,137 @@
+package com.rigygeorge.taskmanagement.config;
+
+import tools.jackson.core.JsonGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * UUIDs and Instants written as JSON strings without creating a String:
+ * the text is formatted into a per-thread char buffer and handed to the
+ * generator, which copies it into its own output buffer right away. The
+ * text is exactly that of UUID#toString and Instant#toString, which is
+ * what Jackson writes for them by default.
+ */
+final class JsonText {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // Room for the longest value: an instant with nanoseconds takes 30 chars
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[36]);
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    // Days from 0000-03-01 to 1970-01-01
+    private static final long DAYS_0000_TO_1970 = 719_468;
+
+    private JsonText() {
+    }
+
+    static void writeUuid(JsonGenerator generator, UUID value) {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        generator.writeString(buffer, 0, formatUuid(value, buffer));
+    }
+
+    static void writeInstant(JsonGenerator generator, Instant value) {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int length = formatInstant(value, buffer);
+        if (length < 0) {
+            generator.writeString(value.toString());
+        } else {
+            generator.writeString(buffer, 0, length);
+        }
+    }
+
+    // 8-4-4-4-12 lowercase hex digits
+    static int formatUuid(UUID value, char[] buffer) {
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        hex(buffer, 0, msb >>> 32, 8);
+        buffer[8] = '-';
+        hex(buffer, 9, msb >>> 16, 4);
+        buffer[13] = '-';
+        hex(buffer, 14, msb, 4);
+        buffer[18] = '-';
+        hex(buffer, 19, lsb >>> 48, 4);
+        buffer[23] = '-';
+        hex(buffer, 24, lsb, 12);
+        return 36;
+    }
+
+    // yyyy-MM-ddTHH:mm:ss, then 0, 3, 6 or 9 fraction digits as needed, then Z.
+    // Returns -1 for years outside 0000-9999, which are printed with a sign.
+    static int formatInstant(Instant value, char[] buffer) {
+        long seconds = value.getEpochSecond();
+        long days = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+
+        // Civil date from a day count, with years starting on March 1st so the
+        // leap day comes last (H. Hinnant, "chrono-Compatible Low-Level Date Algorithms")
+        long shifted = days + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(shifted, 146_097);
+        int dayOfEra = (int) (shifted - era * 146_097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = era * 400 + yearOfEra + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+
+        decimal(buffer, 0, (int) year, 4);
+        buffer[4] = '-';
+        decimal(buffer, 5, month, 2);
+        buffer[7] = '-';
+        decimal(buffer, 8, day, 2);
+        buffer[10] = 'T';
+        decimal(buffer, 11, secondOfDay / 3600, 2);
+        buffer[13] = ':';
+        decimal(buffer, 14, secondOfDay / 60 % 60, 2);
+        buffer[16] = ':';
+        decimal(buffer, 17, secondOfDay % 60, 2);
+
+        int length = 19;
+        int nanos = value.getNano();
+        if (nanos != 0) {
+            buffer[length++] = '.';
+            if (nanos % 1_000_000 == 0) {
+                decimal(buffer, length, nanos / 1_000_000, 3);
+                length += 3;
+            } else if (nanos % 1000 == 0) {
+                decimal(buffer, length, nanos / 1000, 6);
+                length += 6;
+            } else {
+                decimal(buffer, length, nanos, 9);
+                length += 9;
+            }
+        }
+        buffer[length++] = 'Z';
+        return length;
+    }
+
+    // The low 4 * digits bits of value, most significant digit first
+    private static void hex(char[] buffer, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    // value zero-padded to exactly digits characters
+    private static void decimal(char[] buffer, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
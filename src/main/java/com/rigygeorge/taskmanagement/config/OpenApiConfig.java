@@ -20,6 +20,8 @@ import org.springframework.context.annotation.Configuration;
             - JWT-based authentication
             - Role-based access control (RBAC)
             - Task collaboration features
+            - JSON, CBOR (`application/cbor`) and Smile (`application/x-jackson-smile`)
+              bodies, chosen with the Accept and Content-Type headers
             
             **Authentication:**
             1. Register at `/api/auth/register` or login at `/api/auth/login`
@@ -0,0 +1,87 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.service.TenantGenerations;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * With replicas.enabled, the application DataSource hands out lazy
+ * connections: the physical connection is only taken at the first statement,
+ * after the transaction has marked it read-only or not. Read-only ones
+ * (@Transactional(readOnly = true)) come from the replicas through
+ * {@link ReplicaRoutingDataSource}; everything else, Flyway included, goes to
+ * the primary configured under spring.datasource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                              @Value("${spring.datasource.username}") String username,
+                                              @Value("${spring.datasource.password}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             TenantGenerations tenantGenerations,
+                                                             @Value("${replicas.urls}") String[] urls,
+                                                             @Value("${replicas.username}") String username,
+                                                             @Value("${replicas.password}") String password,
+                                                             @Value("${replicas.pool-size:10}") int poolSize,
+                                                             @Value("${replicas.max-lag:16MB}") DataSize maxLag,
+                                                             @Value("${replicas.health-check-interval:1s}") Duration checkInterval,
+                                                             @Value("${replicas.write-memory:5m}") Duration writeMemory) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // Tells the pools apart in pg_stat_activity
+            replica.addDataSourceProperty("ApplicationName", "taskmanagement-" + replica.getPoolName());
+            replicas.add(replica);
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("replicas.enabled is set but replicas.urls lists no replica");
+        }
+
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                maxLag.toBytes(), checkInterval, writeMemory);
+        tenantGenerations.onCommittedWrite(router::recordWrite);
+        return router;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,228 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Source of read-only connections (see ReplicaDataSourceConfig): the next
+ * healthy replica, round-robin, that has replayed the current tenant's last
+ * committed write; otherwise the primary.
+ *
+ * <p>Positions are WAL LSNs. After a tenant's write commits, here or on
+ * another instance (change notifications arrive after the commit), the
+ * primary's current LSN is recorded for that tenant; until it is known the
+ * tenant reads from the primary. A background check polls
+ * every replica's replay LSN; a replica that fails the check or trails the
+ * primary by more than the allowed lag is skipped until it recovers. Right
+ * after a write the tenant therefore reads from the primary until the next
+ * check sees a replica that has caught up.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT (pg_current_wal_lsn() - '0/0')::bigint";
+
+    // A standalone server (no replication, e.g. in tests) reports its own position
+    private static final String REPLICA_LSN_SQL =
+            "SELECT (COALESCE(pg_last_wal_replay_lsn(), pg_current_wal_lsn()) - '0/0')::bigint";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagBytes;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // Tenant -> primary LSN after its last committed write
+    private final Cache<UUID, Long> tenantWrites;
+
+    // Tenant -> committed writes whose LSN has not been read yet
+    private final Map<UUID, Integer> pendingWrites = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService healthCheck;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, long maxLagBytes,
+                                    Duration checkInterval, Duration writeMemory) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagBytes = maxLagBytes;
+        this.tenantWrites = Caffeine.newBuilder()
+                .expireAfterWrite(writeMemory)
+                .build();
+        this.healthCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkMillis = checkInterval.toMillis();
+        healthCheck.scheduleWithFixedDelay(this::check, 0, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long required = requiredLsn();
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy && replica.replayedLsn >= required) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    // Down since the last check; the check brings it back
+                    replica.markDown(e);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Replica connections use the configured credentials");
+    }
+
+    // Called once a write to the tenant is committed. The primary's position is
+    // read on the check thread, not while the caller still holds its connection;
+    // until then the tenant reads from the primary.
+    public void recordWrite(UUID tenantId) {
+        pendingWrites.merge(tenantId, 1, Integer::sum);
+        try {
+            healthCheck.execute(() -> resolveWrite(tenantId));
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            pendingWrites.computeIfPresent(tenantId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    void recordWrite(UUID tenantId, long lsn) {
+        tenantWrites.asMap().merge(tenantId, lsn, Math::max);
+    }
+
+    private void resolveWrite(UUID tenantId) {
+        long lsn;
+        try {
+            lsn = queryLsn(primary, PRIMARY_LSN_SQL);
+        } catch (SQLException e) {
+            // Unknown position: the tenant reads from the primary until the entry expires
+            log.warn("Could not read the primary WAL position after a write", e);
+            lsn = Long.MAX_VALUE;
+        }
+        recordWrite(tenantId, lsn);
+        pendingWrites.computeIfPresent(tenantId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    // Replica name -> usable for reads right now
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new LinkedHashMap<>();
+        replicas.forEach(replica -> health.put(replica.name, replica.healthy));
+        return health;
+    }
+
+    @Override
+    public void destroy() {
+        healthCheck.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private long requiredLsn() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails user)) {
+            return 0;
+        }
+        if (pendingWrites.containsKey(user.getTenantId())) {
+            return Long.MAX_VALUE;
+        }
+        Long lsn = tenantWrites.getIfPresent(user.getTenantId());
+        return lsn != null ? lsn : 0;
+    }
+
+    private void check() {
+        long primaryLsn;
+        try {
+            primaryLsn = queryLsn(primary, PRIMARY_LSN_SQL);
+        } catch (SQLException e) {
+            // Lag cannot be judged; keep the replicas as they were
+            log.warn("Replica health check could not reach the primary", e);
+            return;
+        }
+        for (Replica replica : replicas) {
+            try {
+                long replayed = queryLsn(replica.dataSource, REPLICA_LSN_SQL);
+                replica.replayedLsn = replayed;
+                long lag = primaryLsn - replayed;
+                if (lag > maxLagBytes) {
+                    replica.markLagging(lag);
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    private static long queryLsn(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long replayedLsn;
+
+        Replica(HikariDataSource dataSource) {
+            this.name = dataSource.getPoolName();
+            this.dataSource = dataSource;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("Replica {} is available for reads", name);
+                healthy = true;
+            }
+        }
+
+        void markLagging(long lagBytes) {
+            if (healthy) {
+                log.warn("Replica {} is {} bytes of WAL behind the primary; reading elsewhere", name, lagBytes);
+                healthy = false;
+            }
+        }
+
+        void markDown(Exception e) {
+            if (healthy) {
+                log.warn("Replica {} is unreachable; reading elsewhere", name, e);
+                healthy = false;
+            }
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.rigygeorge.taskmanagement.config;
 import com.rigygeorge.taskmanagement.security.CustomUserDetailsService;
 import com.rigygeorge.taskmanagement.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,10 +31,14 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthFilter;
 
+    // Raising the cost makes PasswordEncoder.upgradeEncoding flag older hashes,
+    // which AuthService rehashes on the user's next successful login
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
     
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
     
   /*   @Bean
@@ -71,6 +77,10 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                // SSE completion re-dispatches a request that was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // Token revocation needs a caller, unlike the rest of /api/auth
+                .requestMatchers("/api/auth/logout", "/api/auth/users/**").authenticated()
                 .requestMatchers("/api/auth/**", "/api/health",
                 "/swagger-ui/**",       // Resources (JS, CSS)
                 "/swagger-ui.html",     // Entry point
@@ -0,0 +1,81 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a TaskResponse field by field, in declaration order, with no bean
+ * introspection per call. Field names and enum values are encoded once;
+ * ids and timestamps go through JsonText without intermediate Strings.
+ */
+public class TaskResponseSerializer extends StdSerializer<TaskResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString PROJECT_ID = new SerializedString("projectId");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRIORITY = new SerializedString("priority");
+    private static final SerializableString ASSIGNED_TO = new SerializedString("assignedTo");
+    private static final SerializableString CREATED_BY = new SerializedString("createdBy");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    // Enum values by ordinal, written as their names like Jackson does by default
+    private static final SerializableString[] STATUSES = names(Task.TaskStatus.values());
+    private static final SerializableString[] PRIORITIES = names(Task.TaskPriority.values());
+
+    public TaskResponseSerializer() {
+        super(TaskResponse.class);
+    }
+
+    @Override
+    public void serialize(TaskResponse task, JsonGenerator generator, SerializationContext context) {
+        generator.writeStartObject(task);
+        generator.writeName(ID);
+        JsonText.writeUuid(generator, task.getId());
+        generator.writeName(PROJECT_ID);
+        JsonText.writeUuid(generator, task.getProjectId());
+        generator.writeName(TITLE);
+        generator.writeString(task.getTitle());
+        generator.writeName(DESCRIPTION);
+        generator.writeString(task.getDescription());
+        generator.writeName(STATUS);
+        writeEnum(generator, task.getStatus(), STATUSES);
+        generator.writeName(PRIORITY);
+        writeEnum(generator, task.getPriority(), PRIORITIES);
+        generator.writeName(ASSIGNED_TO);
+        JsonText.writeUuid(generator, task.getAssignedTo());
+        generator.writeName(CREATED_BY);
+        JsonText.writeUuid(generator, task.getCreatedBy());
+        generator.writeName(DUE_DATE);
+        JsonText.writeInstant(generator, task.getDueDate());
+        generator.writeName(CREATED_AT);
+        JsonText.writeInstant(generator, task.getCreatedAt());
+        generator.writeName(UPDATED_AT);
+        JsonText.writeInstant(generator, task.getUpdatedAt());
+        generator.writeEndObject();
+    }
+
+    private static void writeEnum(JsonGenerator generator, Enum<?> value, SerializableString[] names) {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(names[value.ordinal()]);
+        }
+    }
+
+    private static SerializableString[] names(Enum<?>[] values) {
+        SerializableString[] names = new SerializableString[values.length];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = new SerializedString(value.name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,23 @@
+package com.rigygeorge.taskmanagement.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Work handed from a request to Spring's task executors (async MVC
+ * requests, @Async methods) runs with the request's SecurityContext, which
+ * the services read through getCurrentUser(). Spring Boot applies the
+ * decorator to the executors it builds, on platform and virtual threads
+ * alike (spring.threads.virtual.enabled). Request handling itself needs
+ * nothing: a virtual thread per request keeps the thread-local context.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
+}
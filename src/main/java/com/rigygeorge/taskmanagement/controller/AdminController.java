@@ -0,0 +1,83 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.rigygeorge.taskmanagement.dto.CacheStatsResponse;
+import com.rigygeorge.taskmanagement.dto.ThreadStatsResponse;
+import com.rigygeorge.taskmanagement.service.CacheStatsService;
+import com.rigygeorge.taskmanagement.service.ThreadStatsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Administration", description = "Operational insight into the running instance")
+@SecurityRequirement(name = "Bearer Authentication")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    
+    private final CacheStatsService cacheStatsService;
+    private final ThreadStatsService threadStatsService;
+    
+    @Operation(
+        summary = "Get cache statistics",
+        description = """
+            Returns hit, miss and put counts of the Hibernate second-level cache regions
+            (projects, users, tenants), of the query cache, of the list response cache and of
+            the off-heap task fragment cache (with its memory use) on this instance, cumulative
+            since startup. Requires ADMIN role.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cache statistics",
+            content = @Content(schema = @Schema(implementation = CacheStatsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied - ADMIN role required"
+        )
+    })
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getStats());
+    }
+    
+    @Operation(
+        summary = "Get threading statistics",
+        description = """
+            Reports whether requests run on virtual threads on this instance, how often and where
+            virtual threads were pinned to their carrier since startup (blocking while holding a
+            monitor, when pinning is monitored), and the current connection pool occupancy, including
+            requests waiting for a connection. Requires ADMIN role.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Threading statistics",
+            content = @Content(schema = @Schema(implementation = ThreadStatsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied - ADMIN role required"
+        )
+    })
+    @GetMapping("/thread-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ThreadStatsResponse> getThreadStats() {
+        return ResponseEntity.ok(threadStatsService.getStats());
+    }
+}
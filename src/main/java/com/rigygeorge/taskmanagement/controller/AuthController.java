@@ -11,13 +11,18 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @Tag(
     name = "Authentication",
     description = "User registration and authentication endpoints. Start here to obtain JWT tokens for API access."
@@ -117,11 +122,55 @@ public class AuthController {
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request - missing email or password"
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Too many failed attempts for this email or client - retry after the Retry-After delay"
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Login capacity saturated - retry after the Retry-After delay"
         )
     })
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.login(request);
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
+    
+    @Operation(
+        summary = "Log out on every device",
+        description = """
+            Revokes every token issued to the current user, including the one used for this call.
+            Other application instances stop accepting the tokens within the principal cache TTL.
+            """
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout() {
+        authService.logout();
+        return ResponseEntity.noContent().build();
+    }
+    
+    @Operation(
+        summary = "Revoke a user's tokens",
+        description = "Revokes every token issued to a user in the current organization. Only ADMIN users can revoke tokens of other users."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/users/{userId}/revoke")
+    public ResponseEntity<Void> revokeTokens(@PathVariable UUID userId) {
+        authService.revokeTokens(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -2,6 +2,7 @@ package com.rigygeorge.taskmanagement.controller;
 
 import com.rigygeorge.taskmanagement.dto.CommentResponse;
 import com.rigygeorge.taskmanagement.dto.CreateCommentRequest;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
 import com.rigygeorge.taskmanagement.service.CommentService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -64,7 +65,7 @@ public class CommentController {
     
     @Operation(
         summary = "Get all comments for a task",
-        description = "Retrieves all comments for a specific task, ordered by creation date (newest first)"
+        description = "Retrieves comments for a specific task, ordered by creation date (newest first), one page at a time. The next page's cursor is returned in the X-Next-Cursor header."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -81,9 +82,16 @@ public class CommentController {
         )
     })
     @GetMapping
-    public ResponseEntity<List<CommentResponse>> getCommentsByTask(@Parameter(description = "Task ID", required = true) @PathVariable UUID taskId) {
-        List<CommentResponse> comments = commentService.getCommentsByTask(taskId);
-        return ResponseEntity.ok(comments);
+    public ResponseEntity<List<?>> getCommentsByTask(
+            @Parameter(description = "Task ID", required = true) @PathVariable UUID taskId,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 200")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,content,createdAt; all when absent")
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, CommentResponse.FIELDS);
+        return PageResponses.ok(commentService.getCommentsByTask(taskId, cursor, limit, selection), selection, CommentResponse.FIELDS);
     }
     
     @Operation(
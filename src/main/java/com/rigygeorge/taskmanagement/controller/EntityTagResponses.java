@@ -0,0 +1,65 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.rigygeorge.taskmanagement.dto.EntityTags;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+// A strong tag identifies one representation: the CBOR and Smile bodies of a
+// resource are tagged apart from its JSON, so If-None-Match never confirms a
+// format the client has not received. Vary: Accept keeps shared caches from
+// serving one format for another.
+final class EntityTagResponses {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private EntityTagResponses() {
+    }
+
+    static boolean checkNotModified(WebRequest request, String etag) {
+        varyOnAccept(request);
+        return request.checkNotModified(eTag(request, etag));
+    }
+
+    static boolean checkNotModified(WebRequest request, String etag, long lastModifiedMillis) {
+        varyOnAccept(request);
+        return request.checkNotModified(eTag(request, etag), lastModifiedMillis);
+    }
+
+    // The tag of the representation negotiated for this request
+    static String eTag(WebRequest request, String etag) {
+        return EntityTags.forFormat(etag, format(request));
+    }
+
+    // null for JSON, the default for anything else or no Accept at all
+    private static String format(WebRequest request) {
+        MediaType preferred;
+        try {
+            preferred = PageResponses.preferredType(request);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        if (preferred == null || preferred.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return null;
+        }
+        if (preferred.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+            return "cbor";
+        }
+        if (preferred.isCompatibleWith(SMILE)) {
+            return "smile";
+        }
+        return null;
+    }
+
+    private static void varyOnAccept(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            HttpServletResponse response = servletRequest.getResponse();
+            if (response != null && !response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+    }
+}
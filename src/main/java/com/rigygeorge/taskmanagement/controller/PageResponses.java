@@ -0,0 +1,85 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.rigygeorge.taskmanagement.dto.CursorPage;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
+import com.rigygeorge.taskmanagement.dto.JsonPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Collection endpoints keep returning a plain JSON array; the cursor for the
+// next page travels in the X-Next-Cursor and Link headers and is absent on
+// the last page.
+final class PageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private PageResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        return withCursor(page).body(page.getItems());
+    }
+
+    // With a sparse fieldset the items go out as maps holding only the selected fields
+    static <T> ResponseEntity<List<?>> ok(CursorPage<T> page, FieldSelection fields,
+                                         Map<String, Function<T, Object>> accessors) {
+        List<?> items = fields != null ? fields.apply(page.getItems(), accessors) : page.getItems();
+        return withCursor(page).body(items);
+    }
+
+    // A page already rendered as JSON goes out byte for byte
+    static ResponseEntity<byte[]> ok(JsonPage page) {
+        return withCursor(page.getNextCursor())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(page.getBody());
+    }
+
+    // Pre-rendered JSON pages are only for clients whose preferred type is JSON
+    // (or anything); the others go through content negotiation, e.g. for CBOR
+    static boolean prefersJson(WebRequest request) {
+        try {
+            MediaType preferred = preferredType(request);
+            return preferred == null || preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException e) {
+            // Negotiation rejects the header properly
+            return false;
+        }
+    }
+
+    // The client's highest-weighted Accept type, null without a header
+    static MediaType preferredType(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        // max keeps the first of equally weighted types, i.e. the client's order
+        return MediaType.parseMediaTypes(accept).stream()
+                .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                .orElse(null);
+    }
+
+    private static ResponseEntity.BodyBuilder withCursor(CursorPage<?> page) {
+        return withCursor(page.getNextCursor());
+    }
+
+    private static ResponseEntity.BodyBuilder withCursor(String nextCursor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response;
+    }
+}
@@ -1,9 +1,13 @@
 package com.rigygeorge.taskmanagement.controller;
 
 import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.EntityTags;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
 import com.rigygeorge.taskmanagement.dto.ProjectResponse;
 import com.rigygeorge.taskmanagement.dto.UpdateProjectRequest;
+import com.rigygeorge.taskmanagement.service.ConsistentReads;
 import com.rigygeorge.taskmanagement.service.ProjectService;
+import com.rigygeorge.taskmanagement.service.SyncService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,10 +19,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
 
 
 import java.util.List;
@@ -32,6 +40,8 @@ import java.util.UUID;
 public class ProjectController {
     
     private final ProjectService projectService;
+    private final SyncService syncService;
+    private final ConsistentReads consistentReads;
     
     @Operation(
         summary = "Create a new project",
@@ -54,19 +64,34 @@ public class ProjectController {
     
     @Operation(
         summary = "Get all projects",
-        description = "Retrieves all projects for the current user's organization (tenant). Projects from other tenants are not visible."
+        description = "Retrieves projects for the current user's organization (tenant), newest first, one page at a time. The next page's cursor is returned in the X-Next-Cursor header. Projects from other tenants are not visible. Send the ETag back in If-None-Match to get a body-less 304 while nothing in the organization has changed."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Projects retrieved successfully"
         ),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
     })
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getAllProjects() {
-        List<ProjectResponse> projects = projectService.getAllProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<List<?>> getAllProjects(
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 200")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name; all when absent")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, ProjectResponse.FIELDS);
+        // Tag first, page second, from the same server: a write in between can
+        // only make the tag stale, never the body
+        return consistentReads.read(() -> {
+            if (EntityTagResponses.checkNotModified(webRequest, syncService.getCollectionETag())) {
+                return null;
+            }
+            return PageResponses.ok(projectService.getAllProjects(cursor, limit, selection), selection, ProjectResponse.FIELDS);
+        });
     }
     
     @Operation(
@@ -79,13 +104,21 @@ public class ProjectController {
             description = "Project found",
             content = @Content(schema = @Schema(implementation = ProjectResponse.class))
         ),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match or the If-Modified-Since date"),
         @ApiResponse(responseCode = "404", description = "Project not found"),
         @ApiResponse(responseCode = "403", description = "Access denied - project belongs to different organization")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getProjectById(@Parameter(description = "Project ID", required = true) @PathVariable UUID id) {
-        ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectResponse> getProjectById(@Parameter(description = "Project ID", required = true) @PathVariable UUID id,
+                                                          WebRequest webRequest) {
+        return consistentReads.read(() -> {
+            Instant version = projectService.getProjectVersion(id);
+            if (EntityTagResponses.checkNotModified(webRequest, EntityTags.of(version), version.toEpochMilli())) {
+                return null;
+            }
+            ProjectResponse project = projectService.getProjectById(id);
+            return ResponseEntity.ok(project);
+        });
     }
     
     @Operation(
@@ -100,15 +133,21 @@ public class ProjectController {
         ),
         @ApiResponse(responseCode = "400", description = "Invalid request body"),
         @ApiResponse(responseCode = "404", description = "Project not found"),
-        @ApiResponse(responseCode = "403", description = "Access denied - project belongs to different organization")
+        @ApiResponse(responseCode = "403", description = "Access denied - project belongs to different organization"),
+        @ApiResponse(responseCode = "412", description = "Project changed since the ETag in If-Match")
     })
     @PutMapping("/{id}")
     public ResponseEntity<ProjectResponse> updateProject(
             @Parameter(description = "Project ID", required = true)
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateProjectRequest request) {
-        ProjectResponse project = projectService.updateProject(id, request);
-        return ResponseEntity.ok(project);
+            @Parameter(description = "ETag from an earlier read; the update is refused if the project changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UpdateProjectRequest request,
+            WebRequest webRequest) {
+        ProjectResponse project = projectService.updateProject(id, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EntityTagResponses.eTag(webRequest, EntityTags.of(project.getUpdatedAt())))
+                .body(project);
     }
     
     @Operation(
@@ -118,12 +157,15 @@ public class ProjectController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Project deleted successfully"),
         @ApiResponse(responseCode = "403", description = "Access denied - ADMIN or MANAGER role required"),
-        @ApiResponse(responseCode = "404", description = "Project not found")
+        @ApiResponse(responseCode = "404", description = "Project not found"),
+        @ApiResponse(responseCode = "412", description = "Project changed since the ETag in If-Match")
     })
     @DeleteMapping("/{id}")
     @PreAuthorize("@securityUtils.isManagerOrAdmin()")
-    public ResponseEntity<Void> deleteProject(@Parameter(description = "Project ID", required = true) @PathVariable UUID id) {
-        projectService.deleteProject(id);
+    public ResponseEntity<Void> deleteProject(@Parameter(description = "Project ID", required = true) @PathVariable UUID id,
+                                              @Parameter(description = "ETag from an earlier read; the delete is refused if the project changed since")
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        projectService.deleteProject(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
     
@@ -0,0 +1,59 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.rigygeorge.taskmanagement.dto.SyncResponse;
+import com.rigygeorge.taskmanagement.service.SyncService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Sync", description = "Incremental sync for offline-capable clients")
+@SecurityRequirement(name = "Bearer Authentication")
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+    
+    private final SyncService syncService;
+    
+    @Operation(
+        summary = "Get changes since a sync token",
+        description = """
+            Returns the tasks, projects and comments of the current user's organization that were
+            created or updated after the given token, plus tombstones for deleted ones. Without a
+            token everything is returned. Store nextToken and pass it as since on the next call;
+            while hasMore is true, call again right away. Tombstones are only kept for a limited
+            time: a token older than that gets 410, and the client has to discard its local copy
+            and sync again without a token.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(schema = @Schema(implementation = SyncResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid sync token or limit"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+        @ApiResponse(responseCode = "410", description = "Sync token expired - full resync required")
+    })
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @Parameter(description = "nextToken from the previous sync; omit for a full sync")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changed entities, at most 1000")
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(syncService.sync(since, limit));
+    }
+}
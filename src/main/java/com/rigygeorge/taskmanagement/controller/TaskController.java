@@ -1,9 +1,26 @@
 package com.rigygeorge.taskmanagement.controller;
 
+import com.rigygeorge.taskmanagement.dto.BulkCreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.BulkTaskResponse;
+import com.rigygeorge.taskmanagement.dto.BulkUpdateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.BulkUpdateTaskResponse;
 import com.rigygeorge.taskmanagement.dto.CreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.CursorPage;
+import com.rigygeorge.taskmanagement.dto.EntityTags;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
+import com.rigygeorge.taskmanagement.dto.JsonPage;
+import com.rigygeorge.taskmanagement.dto.TaskExportFormat;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
 import com.rigygeorge.taskmanagement.dto.TaskResponse;
 import com.rigygeorge.taskmanagement.dto.UpdateTaskRequest;
 import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.service.ConsistentReads;
+import com.rigygeorge.taskmanagement.service.SyncService;
+import com.rigygeorge.taskmanagement.service.TaskBulkService;
+import com.rigygeorge.taskmanagement.service.TaskEventHub;
+import com.rigygeorge.taskmanagement.service.TaskExportService;
+import com.rigygeorge.taskmanagement.service.TaskFragmentCache;
+import com.rigygeorge.taskmanagement.service.TaskJsonService;
 import com.rigygeorge.taskmanagement.service.TaskService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,15 +31,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @Tag(name = "Tasks", description = "Task management endpoints - Create, update, delete, and filter tasks")
 @RestController
@@ -31,7 +60,16 @@ import java.util.UUID;
 @SecurityRequirement(name = "Bearer Authentication")
 public class TaskController {
     
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskBulkService taskBulkService;
+    private final TaskEventHub taskEventHub;
+    private final SyncService syncService;
+    private final TaskJsonService taskJsonService;
+    private final TaskFragmentCache taskFragmentCache;
+    private final ConsistentReads consistentReads;
     
     @Operation(
         summary = "Create a new task",
@@ -63,9 +101,104 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @Operation(
+        summary = "Create tasks in bulk",
+        description = """
+            Creates up to 5000 tasks in one transaction. Each item is validated on its own and the
+            response reports a result per item, in request order; invalid items or items pointing
+            at a project outside the current organization fail without affecting the others.
+            Requires ADMIN or MANAGER role.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Request processed - see per-item results",
+            content = @Content(schema = @Schema(implementation = BulkTaskResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty task list or more than 5000 tasks"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied - insufficient permissions"
+        )
+    })
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BulkTaskResponse> createTasks(@Valid @RequestBody BulkCreateTaskRequest request) {
+        return ResponseEntity.ok(taskBulkService.createTasks(request));
+    }
+    
+    @Operation(
+        summary = "Update tasks in bulk",
+        description = """
+            Applies the same changes (status, priority, assignee, due date or project) to every task
+            selected either by an id list (up to 5000) or by a filter, e.g. all IN_PROGRESS tasks of a
+            project, or everything assigned to a given user. Runs as set-based UPDATE statements in
+            chunks of 1000 tasks. Requires ADMIN or MANAGER role.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tasks updated",
+            content = @Content(schema = @Schema(implementation = BulkUpdateTaskResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Neither or both of ids and filter given, or no changes given"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied - insufficient permissions"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Target project not found"
+        )
+    })
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BulkUpdateTaskResponse> updateTasks(@Valid @RequestBody BulkUpdateTaskRequest request) {
+        return ResponseEntity.ok(taskBulkService.updateTasks(request));
+    }
+    
+    @Operation(
+        summary = "Stream task changes",
+        description = """
+            Server-Sent Events stream of task and comment create/update/delete events in the current
+            organization, optionally narrowed to one project or assignee. A heartbeat comment is sent
+            every 15 seconds. Reconnect with the Last-Event-ID header to receive the events missed in
+            between; a RESYNC event means events were dropped (slow client or expired resume point)
+            and lists should be refetched. TASKS_CHANGED signals bulk changes that are not itemized.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Event stream opened"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(
+            @Parameter(description = "Only events of this project")
+            @RequestParam(required = false) UUID projectId,
+            @Parameter(description = "Only events of tasks assigned to this user")
+            @RequestParam(required = false) UUID assigneeId,
+            @Parameter(description = "Id of the last event received, to resume after a reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskEventHub.subscribe(projectId, assigneeId, lastEventId);
+    }
+    
     @Operation(
         summary = "Get all tasks",
-        description = "Retrieves all tasks for the current tenant with optional filtering by status, priority, project, and assignee"
+        description = "Retrieves all tasks for the current tenant with optional filtering by status, priority, project, assignee, due date and creation date, sorted by the requested key. Results are paged; the next page's cursor is returned in the X-Next-Cursor header."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -78,7 +211,7 @@ public class TaskController {
         )
     })
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks(@Parameter(description = "Filter by task status (TODO, IN_PROGRESS, DONE)")
+    public ResponseEntity<?> getAllTasks(@Parameter(description = "Filter by task status (TODO, IN_PROGRESS, DONE)")
     @RequestParam(required = false) Task.TaskStatus status,
     
     @Parameter(description = "Filter by task priority (LOW, MEDIUM, HIGH)")
@@ -88,24 +221,122 @@ public class TaskController {
     @RequestParam(required = false) UUID projectId,
     
     @Parameter(description = "Filter by assignee user ID")
-    @RequestParam(required = false) UUID assigneeId) {
-        List<TaskResponse> tasks = taskService.getAllTasks(status, priority, projectId, assigneeId);
-        return ResponseEntity.ok(tasks);
+    @RequestParam(required = false) UUID assigneeId,
+    
+    @Parameter(description = "Only tasks due at or after this instant (ISO-8601)")
+    @RequestParam(required = false) Instant dueAfter,
+    
+    @Parameter(description = "Only tasks due before this instant (ISO-8601)")
+    @RequestParam(required = false) Instant dueBefore,
+    
+    @Parameter(description = "Only tasks created at or after this instant (ISO-8601)")
+    @RequestParam(required = false) Instant createdAfter,
+    
+    @Parameter(description = "Only tasks created before this instant (ISO-8601)")
+    @RequestParam(required = false) Instant createdBefore,
+    
+    @Parameter(description = "Sort key (CREATED_AT, UPDATED_AT, DUE_DATE, TITLE)")
+    @RequestParam(defaultValue = "CREATED_AT") TaskFilter.SortField sortBy,
+    
+    @Parameter(description = "Sort direction (ASC, DESC)")
+    @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+    
+    @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+    @RequestParam(required = false) String cursor,
+    
+    @Parameter(description = "Page size, at most 200")
+    @RequestParam(defaultValue = "50") int limit,
+    
+    @Parameter(description = "Comma-separated fields to return, e.g. id,title,status; all when absent")
+    @RequestParam(required = false) String fields,
+    
+    WebRequest webRequest) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status);
+        filter.setPriority(priority);
+        filter.setProjectId(projectId);
+        filter.setAssigneeId(assigneeId);
+        filter.setDueAfter(dueAfter);
+        filter.setDueBefore(dueBefore);
+        filter.setCreatedAfter(createdAfter);
+        filter.setCreatedBefore(createdBefore);
+        filter.setSortBy(sortBy);
+        filter.setDirection(direction);
+        
+        FieldSelection selection = FieldSelection.parse(fields, TaskResponse.FIELDS);
+        // Tag first, page second, from the same server: a write in between can
+        // only make the tag stale, never the body
+        return consistentReads.read(() -> {
+            if (EntityTagResponses.checkNotModified(webRequest, syncService.getCollectionETag())) {
+                return null;
+            }
+            if (selection == null && taskJsonService.isEnabled() && PageResponses.prefersJson(webRequest)) {
+                return PageResponses.ok(taskJsonService.getAllTasks(filter, cursor, limit));
+            }
+            return page(taskService.getAllTasks(filter, cursor, limit, selection), selection, webRequest);
+        });
+    }
+    
+    @Operation(
+        summary = "Export tasks",
+        description = "Streams every task of the current tenant matching the optional filters as NDJSON (one JSON object per line) or CSV, ordered by creation date. Rows are read through a database cursor and written as they arrive, so exports of any size use constant memory."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token")
+    })
+    @GetMapping("/export")
+    public void exportTasks(@ParameterObject TaskFilter filter,
+                            @Parameter(description = "Output format (NDJSON, CSV)")
+                            @RequestParam(defaultValue = "NDJSON") TaskExportFormat format,
+                            @Parameter(description = "Gzip-compress the response body (sent with Content-Encoding: gzip)")
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"tasks." + format.getExtension() + "\"");
+        
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, EXPORT_BUFFER_SIZE);
+            taskExportService.exportTasks(filter, format, gzipOut);
+            gzipOut.finish();
+        } else {
+            taskExportService.exportTasks(filter, format, out);
+        }
+        out.flush();
     }
     
     @Operation(
         summary = "Get tasks by project",
-        description = "Retrieves all tasks for a specific project"
+        description = "Retrieves tasks for a specific project, newest first, one page at a time"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
         @ApiResponse(responseCode = "404", description = "Project not found")
     })
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<TaskResponse>> getTasksByProject(@Parameter(description = "Project ID", required = true) 
-                                                                @PathVariable UUID projectId) {
-        List<TaskResponse> tasks = taskService.getTasksByProject(projectId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<?> getTasksByProject(@Parameter(description = "Project ID", required = true) 
+                                              @PathVariable UUID projectId,
+                                              @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+                                              @RequestParam(required = false) String cursor,
+                                              @Parameter(description = "Page size, at most 200")
+                                              @RequestParam(defaultValue = "50") int limit,
+                                              @Parameter(description = "Comma-separated fields to return; all when absent")
+                                              @RequestParam(required = false) String fields,
+                                              WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, TaskResponse.FIELDS);
+        return consistentReads.read(() -> {
+            if (EntityTagResponses.checkNotModified(webRequest, syncService.getCollectionETag())) {
+                return null;
+            }
+            if (selection == null && taskJsonService.isEnabled() && PageResponses.prefersJson(webRequest)) {
+                return PageResponses.ok(taskJsonService.getTasksByProject(projectId, cursor, limit));
+            }
+            return page(taskService.getTasksByProject(projectId, cursor, limit, selection), selection, webRequest);
+        });
     }
     
     @Operation(
@@ -118,6 +349,10 @@ public class TaskController {
             description = "Task found",
             content = @Content(schema = @Schema(implementation = TaskResponse.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag in If-None-Match or the If-Modified-Since date"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Task not found"
@@ -128,9 +363,17 @@ public class TaskController {
         )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@Parameter(description = "Task ID", required = true) @PathVariable UUID id) {
-        TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<TaskResponse> getTaskById(@Parameter(description = "Task ID", required = true) @PathVariable UUID id,
+                                                    WebRequest webRequest) {
+        // Only updated_at is read until the client's copy turns out to be stale
+        return consistentReads.read(() -> {
+            Instant version = taskService.getTaskVersion(id);
+            if (EntityTagResponses.checkNotModified(webRequest, EntityTags.of(version), version.toEpochMilli())) {
+                return null;
+            }
+            TaskResponse task = taskService.getTaskById(id);
+            return ResponseEntity.ok(task);
+        });
     }
     
     @Operation(
@@ -154,15 +397,24 @@ public class TaskController {
         @ApiResponse(
             responseCode = "404",
             description = "Task not found"
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Task changed since the ETag in If-Match"
         )
     })
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @Parameter(description = "Task ID", required = true)
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateTaskRequest request) {
-        TaskResponse task = taskService.updateTask(id, request);
-        return ResponseEntity.ok(task);
+            @Parameter(description = "ETag from an earlier read; the update is refused if the task changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UpdateTaskRequest request,
+            WebRequest webRequest) {
+        TaskResponse task = taskService.updateTask(id, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EntityTagResponses.eTag(webRequest, EntityTags.of(task.getUpdatedAt())))
+                .body(task);
     }
     
     @Operation(
@@ -181,54 +433,103 @@ public class TaskController {
         @ApiResponse(
             responseCode = "404",
             description = "Task not found"
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Task changed since the ETag in If-Match"
         )
     })
     @DeleteMapping("/{id}")
     @PreAuthorize("@securityUtils.isManagerOrAdmin()")
-    public ResponseEntity<Void> deleteTask(@Parameter(description = "Task ID", required = true) @PathVariable UUID id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(@Parameter(description = "Task ID", required = true) @PathVariable UUID id,
+                                           @Parameter(description = "ETag from an earlier read; the delete is refused if the task changed since")
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
 
     @Operation(
         summary = "Get my assigned tasks",
-        description = "Retrieves all tasks assigned to the current user"
+        description = "Retrieves tasks assigned to the current user, newest first, one page at a time"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
     })
     @GetMapping("/my-tasks")
-    public ResponseEntity<List<TaskResponse>> getMyTasks() {
-        List<TaskResponse> tasks = taskService.getMyTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<?> getMyTasks(@Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+                                       @RequestParam(required = false) String cursor,
+                                       @Parameter(description = "Page size, at most 200")
+                                       @RequestParam(defaultValue = "50") int limit,
+                                       @Parameter(description = "Comma-separated fields to return; all when absent")
+                                       @RequestParam(required = false) String fields,
+                                       WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, TaskResponse.FIELDS);
+        return consistentReads.read(() -> {
+            if (EntityTagResponses.checkNotModified(webRequest, syncService.getCollectionETag())) {
+                return null;
+            }
+            return page(taskService.getMyTasks(cursor, limit, selection), selection, webRequest);
+        });
     }
 
     @Operation(
         summary = "Get tasks by status",
-        description = "Retrieves all tasks with a specific status (TODO, IN_PROGRESS, or DONE)"
+        description = "Retrieves tasks with a specific status (TODO, IN_PROGRESS, or DONE), newest first, one page at a time"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskResponse>> getTasksByStatus(@Parameter(description = "Task status", required = true, example = "IN_PROGRESS")
-                                                               @PathVariable Task.TaskStatus status) {
-        List<TaskResponse> tasks = taskService.getTasksByStatus(status);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<?> getTasksByStatus(@Parameter(description = "Task status", required = true, example = "IN_PROGRESS")
+                                             @PathVariable Task.TaskStatus status,
+                                             @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+                                             @RequestParam(required = false) String cursor,
+                                             @Parameter(description = "Page size, at most 200")
+                                             @RequestParam(defaultValue = "50") int limit,
+                                             @Parameter(description = "Comma-separated fields to return; all when absent")
+                                             @RequestParam(required = false) String fields,
+                                             WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, TaskResponse.FIELDS);
+        return consistentReads.read(() -> {
+            if (EntityTagResponses.checkNotModified(webRequest, syncService.getCollectionETag())) {
+                return null;
+            }
+            return page(taskService.getTasksByStatus(status, cursor, limit, selection), selection, webRequest);
+        });
     }
 
     @Operation(
         summary = "Get tasks by priority",
-        description = "Retrieves all tasks with a specific priority (LOW, MEDIUM, or HIGH)"
+        description = "Retrieves tasks with a specific priority (LOW, MEDIUM, or HIGH), newest first, one page at a time"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
     })
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<TaskResponse>> getTasksByPriority(@Parameter(description = "Task priority", required = true, example = "HIGH")
-                                                                 @PathVariable Task.TaskPriority priority) {
-        List<TaskResponse> tasks = taskService.getTasksByPriority(priority);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<?> getTasksByPriority(@Parameter(description = "Task priority", required = true, example = "HIGH")
+                                               @PathVariable Task.TaskPriority priority,
+                                               @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+                                               @RequestParam(required = false) String cursor,
+                                               @Parameter(description = "Page size, at most 200")
+                                               @RequestParam(defaultValue = "50") int limit,
+                                               @Parameter(description = "Comma-separated fields to return; all when absent")
+                                               @RequestParam(required = false) String fields,
+                                               WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, TaskResponse.FIELDS);
+        return consistentReads.read(() -> {
+            if (EntityTagResponses.checkNotModified(webRequest, syncService.getCollectionETag())) {
+                return null;
+            }
+            return page(taskService.getTasksByPriority(priority, cursor, limit, selection), selection, webRequest);
+        });
+    }
+
+    // Full JSON task lists are assembled from the off-heap fragment cache when it is enabled
+    private ResponseEntity<?> page(CursorPage<TaskResponse> page, FieldSelection selection, WebRequest webRequest) {
+        if (selection == null && taskFragmentCache.isEnabled() && PageResponses.prefersJson(webRequest)) {
+            return PageResponses.ok(new JsonPage(taskFragmentCache.render(page.getItems()), page.getNextCursor()));
+        }
+        return PageResponses.ok(page, selection, TaskResponse.FIELDS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkCreateTaskRequest {
+    
+    public static final int MAX_ITEMS = 5000;
+    
+    // Items are validated one by one so a bad item fails alone instead of the whole request
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " tasks per request")
+    private List<CreateTaskRequest> tasks;
+}
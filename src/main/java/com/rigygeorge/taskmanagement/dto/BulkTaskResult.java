@@ -0,0 +1,25 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResult {
+    
+    // Position of the item in the request
+    private int index;
+    private boolean success;
+    private TaskResponse task;
+    private String error;
+    
+    public static BulkTaskResult succeeded(int index, TaskResponse task) {
+        return new BulkTaskResult(index, true, task, null);
+    }
+    
+    public static BulkTaskResult failed(int index, String error) {
+        return new BulkTaskResult(index, false, null, error);
+    }
+}
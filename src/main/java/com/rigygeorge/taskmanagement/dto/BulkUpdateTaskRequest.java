@@ -0,0 +1,23 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+// Selects tasks either by id or by filter (exactly one of the two) and applies the same changes to all of them
+@Data
+public class BulkUpdateTaskRequest {
+    
+    @Size(max = BulkCreateTaskRequest.MAX_ITEMS, message = "At most " + BulkCreateTaskRequest.MAX_ITEMS + " task ids per request")
+    private List<UUID> ids;
+    
+    private TaskFilter filter;
+    
+    @NotNull(message = "Changes are required")
+    @Valid
+    private TaskChanges changes;
+}
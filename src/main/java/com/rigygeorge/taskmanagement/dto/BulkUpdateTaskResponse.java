@@ -0,0 +1,14 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateTaskResponse {
+    
+    // Tasks actually changed; ids from other tenants or that no longer exist are not counted
+    private long updated;
+}
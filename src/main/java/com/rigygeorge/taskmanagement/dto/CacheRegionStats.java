@@ -0,0 +1,23 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStats {
+    
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long size;
+    
+    // Share of lookups served from the cache, 0 when nothing was looked up yet
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,26 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    
+    // False when hibernate.generate_statistics is off; all counters are then 0
+    private boolean statisticsEnabled;
+    private List<CacheRegionStats> entityRegions;
+    private CacheRegionStats queryCache;
+    
+    // Tenant-versioned list response cache; counted even when Hibernate statistics are off
+    private CacheRegionStats responseCache;
+    
+    // Off-heap cache of serialized tasks; used bytes count whole blocks
+    private CacheRegionStats taskFragmentCache;
+    private long taskFragmentOffHeapBytes;
+    private long taskFragmentCapacityBytes;
+}
@@ -5,13 +5,29 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class CommentResponse {
     
+    // Field name -> getter, in declaration order; the names accepted by ?fields=
+    public static final Map<String, Function<CommentResponse, Object>> FIELDS = new LinkedHashMap<>();
+    static {
+        FIELDS.put("id", CommentResponse::getId);
+        FIELDS.put("taskId", CommentResponse::getTaskId);
+        FIELDS.put("userId", CommentResponse::getUserId);
+        FIELDS.put("userEmail", CommentResponse::getUserEmail);
+        FIELDS.put("userName", CommentResponse::getUserName);
+        FIELDS.put("content", CommentResponse::getContent);
+        FIELDS.put("createdAt", CommentResponse::getCreatedAt);
+        FIELDS.put("updatedAt", CommentResponse::getUpdatedAt);
+    }
+    
     private UUID id;
     private UUID taskId;
     private UUID userId;
@@ -20,4 +36,10 @@ public class CommentResponse {
     private String content;
     private Instant createdAt;
     private Instant updatedAt;
-}
\ No newline at end of file
+
+    // Constructor-expression target for CommentRepository.findResponses; the
+    // author email and name are filled in by CommentService afterwards
+    public CommentResponse(UUID id, UUID taskId, UUID userId, String content, Instant createdAt, Instant updatedAt) {
+        this(id, taskId, userId, null, null, content, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,55 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Strong HTTP entity tags. A single task or project is tagged with its
+ * updatedAt; a collection with its tenant's change sequence (see
+ * V6__add_change_log.sql), which moves on every task, project or comment
+ * write, including bulk updates.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(Instant updatedAt) {
+        // Rounded to microseconds the way PostgreSQL stores it, so a tag taken
+        // from a freshly written entity matches the one read back later
+        long micros = Math.addExact(Math.multiplyExact(updatedAt.getEpochSecond(), 1_000_000L),
+                (updatedAt.getNano() + 500) / 1000);
+        return "\"" + Long.toHexString(micros) + "\"";
+    }
+
+    // Tenant and caller are mixed in because sequences repeat across tenants and
+    // some lists (e.g. /my-tasks) depend on who asks
+    public static String ofCollection(long changeSeq, UUID tenantId, UUID userId) {
+        return "\"c" + Long.toHexString(changeSeq) + "-" + Integer.toHexString(Objects.hash(tenantId, userId)) + "\"";
+    }
+
+    // The tag of the same version in another format (e.g. "17f3a2-cbor");
+    // null format for JSON, whose tags carry no suffix
+    public static String forFormat(String etag, String format) {
+        if (format == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + format + "\"";
+    }
+
+    // Strong comparison as required for If-Match: weak tags never match. A
+    // version is the same whichever format its tag was read in.
+    public static boolean matchesStrong(String header, String etag) {
+        if (header.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(etag) || tag.equals(forFormat(etag, "cbor")) || tag.equals(forFormat(etag, "smile"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
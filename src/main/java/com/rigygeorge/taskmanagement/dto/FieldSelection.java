@@ -0,0 +1,80 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import com.rigygeorge.taskmanagement.exception.BadRequestException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldset from a {@code ?fields=id,title,status} parameter. The
+ * selection narrows the SQL column list (unselected columns are never read)
+ * and the serialized response (unselected fields are omitted, not null).
+ * Part of response cache keys, hence the value semantics.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class FieldSelection {
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    // null when the parameter is absent, meaning every field
+    public static FieldSelection parse(String param, Map<String, ?> allowed) {
+        if (param == null || param.isBlank()) {
+            return null;
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        for (String field : param.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.containsKey(name)) {
+                throw new BadRequestException("Unknown field: " + name + " (allowed: "
+                        + String.join(",", allowed.keySet()) + ")");
+            }
+            fields.add(name);
+        }
+        if (fields.isEmpty()) {
+            throw new BadRequestException("fields must name at least one field");
+        }
+        return new FieldSelection(fields);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    // The selected fields plus those the query needs itself, e.g. for the cursor
+    public Set<String> withRequired(String... required) {
+        Set<String> columns = new LinkedHashSet<>(fields);
+        columns.addAll(Arrays.asList(required));
+        return columns;
+    }
+
+    // Keys follow the accessor (declaration) order, not the order in the request
+    public <T> List<Map<String, Object>> apply(List<T> items, Map<String, Function<T, Object>> accessors) {
+        return items.stream().map(item -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            accessors.forEach((name, accessor) -> {
+                if (fields.contains(name)) {
+                    values.put(name, accessor.apply(item));
+                }
+            });
+            return values;
+        }).toList();
+    }
+}
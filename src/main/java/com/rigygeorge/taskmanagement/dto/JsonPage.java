@@ -0,0 +1,17 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of a list endpoint already rendered as a JSON array, together
+ * with the cursor of the next page (null on the last page).
+ */
+@Getter
+@AllArgsConstructor
+public class JsonPage {
+
+    private final byte[] body;
+
+    private final String nextCursor;
+}
@@ -0,0 +1,83 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import com.rigygeorge.taskmanagement.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor: the sort key it was issued for, the sort value of the
+ * last row on the page and that row's id. Clients only ever see the
+ * base64url-encoded form.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String NULL_VALUE = "~";
+    private static final String VALUE_PREFIX = "=";
+
+    private final String sortKey;
+    private final String value;
+    private final UUID id;
+
+    public String encode() {
+        String encodedValue = value == null ? NULL_VALUE : VALUE_PREFIX + value;
+        String raw = sortKey + "|" + id + "|" + encodedValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last so it may contain the separator itself (e.g. titles)
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            String value;
+            if (parts[2].equals(NULL_VALUE)) {
+                value = null;
+            } else if (parts[2].startsWith(VALUE_PREFIX)) {
+                value = parts[2].substring(VALUE_PREFIX.length());
+            } else {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new PageCursor(parts[0], value, UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public Instant getInstantValue() {
+        if (value == null) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public void requireSortKey(String expected) {
+        if (!sortKey.equals(expected)) {
+            throw new BadRequestException("Cursor was issued for a different sort order");
+        }
+    }
+
+    public static int clampLimit(int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("limit must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -5,13 +5,27 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProjectResponse {
     
+    // Field name -> getter, in declaration order; the names accepted by ?fields=
+    public static final Map<String, Function<ProjectResponse, Object>> FIELDS = new LinkedHashMap<>();
+    static {
+        FIELDS.put("id", ProjectResponse::getId);
+        FIELDS.put("name", ProjectResponse::getName);
+        FIELDS.put("description", ProjectResponse::getDescription);
+        FIELDS.put("createdBy", ProjectResponse::getCreatedBy);
+        FIELDS.put("createdAt", ProjectResponse::getCreatedAt);
+        FIELDS.put("updatedAt", ProjectResponse::getUpdatedAt);
+    }
+    
     private UUID id;
     private String name;
     private String description;
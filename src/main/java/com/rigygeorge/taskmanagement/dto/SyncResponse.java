@@ -0,0 +1,26 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponse {
+
+    // Created or updated since the token, in their current state
+    private List<TaskResponse> tasks;
+    private List<ProjectResponse> projects;
+    private List<CommentResponse> comments;
+
+    private List<SyncTombstone> deleted;
+
+    // Pass as "since" on the next sync
+    private String nextToken;
+
+    // More changes are waiting; sync again right away with nextToken
+    private boolean hasMore;
+}
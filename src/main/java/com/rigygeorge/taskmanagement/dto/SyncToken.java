@@ -0,0 +1,51 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import com.rigygeorge.taskmanagement.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync token: the last change sequence number a client has seen,
+ * and the tenant's tombstone purge horizon when the client last synced from
+ * scratch (tombstones purged before that never concerned it). Clients only
+ * ever see the base64url-encoded form.
+ */
+@Getter
+@AllArgsConstructor
+public final class SyncToken {
+
+    private static final String PREFIX = "sync|";
+
+    private final long seq;
+    private final long horizon;
+
+    public String encode() {
+        String raw = PREFIX + seq + "|" + horizon;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Tokens issued before tombstones were purged carry no horizon and count as 0
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            String[] parts = raw.substring(PREFIX.length()).split("\\|", -1);
+            if (parts.length > 2) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            long seq = Long.parseLong(parts[0]);
+            long horizon = parts.length == 2 ? Long.parseLong(parts[1]) : 0;
+            if (seq < 0 || horizon < 0) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            return new SyncToken(seq, horizon);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+}
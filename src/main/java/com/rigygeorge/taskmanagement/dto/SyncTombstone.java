@@ -0,0 +1,22 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstone {
+
+    public enum EntityType {
+        TASK, PROJECT, COMMENT
+    }
+
+    private EntityType type;
+    private UUID id;
+    private Instant deletedAt;
+}
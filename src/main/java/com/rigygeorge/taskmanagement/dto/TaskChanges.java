@@ -0,0 +1,35 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.rigygeorge.taskmanagement.entity.Task;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Field values to apply to every selected task; null fields are left unchanged
+@Data
+public class TaskChanges {
+    
+    private Task.TaskStatus status;
+    
+    private Task.TaskPriority priority;
+    
+    private UUID assignedTo;
+    
+    // Unassigns the tasks; takes precedence over assignedTo
+    private boolean clearAssignee;
+    
+    private Instant dueDate;
+    
+    // Removes the due date; takes precedence over dueDate
+    private boolean clearDueDate;
+    
+    private UUID projectId;
+    
+    @JsonIgnore
+    public boolean isEmpty() {
+        return status == null && priority == null && assignedTo == null && !clearAssignee
+                && dueDate == null && !clearDueDate && projectId == null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import com.rigygeorge.taskmanagement.entity.Task;
+import lombok.Data;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+public class TaskFilter {
+
+    private Task.TaskStatus status;
+
+    private Task.TaskPriority priority;
+
+    private UUID projectId;
+
+    private UUID assigneeId;
+
+    private Instant dueAfter;
+
+    private Instant dueBefore;
+
+    private Instant createdAfter;
+
+    private Instant createdBefore;
+
+    private SortField sortBy = SortField.CREATED_AT;
+
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    // Sortable columns, each backed by a (tenant_id, ..., column) index
+    public enum SortField {
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt"),
+        DUE_DATE("dueDate"),
+        TITLE("title");
+
+        private final String property;
+
+        SortField(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+    }
+
+    public Sort toSort() {
+        // id breaks ties so the order is stable between identical sort values
+        return Sort.by(direction, sortBy.getProperty(), "id");
+    }
+}
@@ -6,13 +6,32 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskResponse {
     
+    // Field name -> getter, in declaration order; the names accepted by ?fields=
+    public static final Map<String, Function<TaskResponse, Object>> FIELDS = new LinkedHashMap<>();
+    static {
+        FIELDS.put("id", TaskResponse::getId);
+        FIELDS.put("projectId", TaskResponse::getProjectId);
+        FIELDS.put("title", TaskResponse::getTitle);
+        FIELDS.put("description", TaskResponse::getDescription);
+        FIELDS.put("status", TaskResponse::getStatus);
+        FIELDS.put("priority", TaskResponse::getPriority);
+        FIELDS.put("assignedTo", TaskResponse::getAssignedTo);
+        FIELDS.put("createdBy", TaskResponse::getCreatedBy);
+        FIELDS.put("dueDate", TaskResponse::getDueDate);
+        FIELDS.put("createdAt", TaskResponse::getCreatedAt);
+        FIELDS.put("updatedAt", TaskResponse::getUpdatedAt);
+    }
+    
     private UUID id;
     private UUID projectId;
     private String title;
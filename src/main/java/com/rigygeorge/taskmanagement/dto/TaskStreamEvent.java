@@ -0,0 +1,58 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStreamEvent {
+    
+    public enum Type {
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_DELETED,
+        COMMENT_CREATED,
+        COMMENT_DELETED,
+        // Many tasks changed at once (bulk writes, other instances); refetch the lists
+        TASKS_CHANGED,
+        // Events were dropped for this client; refetch and carry on streaming
+        RESYNC
+    }
+    
+    private Type type;
+    private UUID taskId;
+    private UUID projectId;
+    private UUID assigneeId;
+    
+    // Present for TASK_CREATED and TASK_UPDATED
+    private TaskResponse task;
+    
+    // Present for COMMENT_CREATED
+    private CommentResponse comment;
+    
+    private Instant occurredAt;
+    
+    public static TaskStreamEvent task(Type type, TaskResponse task) {
+        return new TaskStreamEvent(type, task.getId(), task.getProjectId(), task.getAssignedTo(),
+            task, null, Instant.now());
+    }
+    
+    public static TaskStreamEvent taskDeleted(UUID taskId, UUID projectId, UUID assigneeId) {
+        return new TaskStreamEvent(Type.TASK_DELETED, taskId, projectId, assigneeId, null, null, Instant.now());
+    }
+    
+    // projectId and assigneeId are those of the commented task, or null when not known
+    public static TaskStreamEvent comment(Type type, UUID taskId, UUID projectId, UUID assigneeId,
+                                          CommentResponse comment) {
+        return new TaskStreamEvent(type, taskId, projectId, assigneeId, null, comment, Instant.now());
+    }
+    
+    public static TaskStreamEvent of(Type type) {
+        return new TaskStreamEvent(type, null, null, null, null, null, Instant.now());
+    }
+}
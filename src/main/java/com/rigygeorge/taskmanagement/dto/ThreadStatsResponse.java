@@ -0,0 +1,27 @@
+package com.rigygeorge.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadStatsResponse {
+    
+    // True when requests run on virtual threads: enabled and on Java 21 or later
+    private boolean virtualThreads;
+    private int javaVersion;
+    
+    // Pinned virtual threads since startup, by call site; empty while not monitored
+    private boolean pinningMonitored;
+    private Map<String, Long> pinnedBySite;
+    
+    // Connection pool: with virtual threads the usual limit on concurrent requests
+    private int dbPoolMaxSize;
+    private int dbPoolActive;
+    private int dbPoolIdle;
+    private int dbPoolWaiting;
+}
@@ -18,7 +18,7 @@ import java.util.UUID;
 public class Comment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
     
     @Column(name = "tenant_id", nullable = false)
@@ -19,7 +19,7 @@ import java.util.UUID;
 public class Task {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
     
     @Column(name = "tenant_id", nullable = false)
@@ -0,0 +1,49 @@
+package com.rigygeorge.taskmanagement.entity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDv7 (RFC 9562) ids. Ids from this JVM are strictly
+ * increasing, so new rows land at the right-hand edge of the primary key
+ * B-tree instead of on a random page.
+ *
+ * <p>Layout: 48-bit Unix millis, version 7, a 16-bit counter spread over
+ * rand_a and the top of rand_b, the variant bits, then 58 random bits. The
+ * counter starts at a random value below 2^15 each millisecond; if more than
+ * ~32k ids are taken in one millisecond it carries into the timestamp, which
+ * keeps ordering at the cost of running slightly ahead of the clock.
+ */
+public final class UuidV7 {
+
+    // (millis << 16) | counter of the last id handed out
+    private static final AtomicLong lastState = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long state = nextState(System.currentTimeMillis());
+        long millis = state >>> 16;
+        long counter = state & 0xFFFF;
+
+        long msb = (millis << 16) | 0x7000L | (counter >>> 4);
+        long lsb = 0x8000_0000_0000_0000L
+                | ((counter & 0xF) << 58)
+                | (ThreadLocalRandom.current().nextLong() & 0x03FF_FFFF_FFFF_FFFFL);
+        return new UUID(msb, lsb);
+    }
+
+    // Lock-free: a new millisecond reseeds the counter, otherwise it is incremented
+    private static long nextState(long now) {
+        long seeded = (now << 16) | ThreadLocalRandom.current().nextInt(1 << 15);
+        while (true) {
+            long last = lastState.get();
+            long next = seeded > last ? seeded : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
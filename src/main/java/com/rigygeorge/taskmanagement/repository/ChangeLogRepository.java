@@ -0,0 +1,96 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.SyncTombstone;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the per-tenant change feed. Rows are written by database triggers
+ * (see V6__add_change_log.sql and V8__number_changes_at_commit.sql), never by
+ * the application, which only purges old tombstones.
+ */
+@Repository
+public class ChangeLogRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Served by idx_change_log_tenant_seq, so the cost follows the number of changes
+    public List<Entry> findAfter(UUID tenantId, long afterSeq, int limit) {
+        numberOwnChanges();
+        return jdbcTemplate.query(
+                "SELECT entity_type, entity_id, seq, deleted, changed_at FROM change_log "
+                        + "WHERE tenant_id = ? AND seq > ? ORDER BY seq LIMIT ?",
+                (rs, rowNum) -> new Entry(
+                        SyncTombstone.EntityType.valueOf(rs.getString("entity_type")),
+                        rs.getObject("entity_id", UUID.class),
+                        rs.getLong("seq"),
+                        rs.getBoolean("deleted"),
+                        rs.getTimestamp("changed_at").toInstant()),
+                tenantId, afterSeq, limit);
+    }
+
+    // 0 for a tenant that has never written anything
+    public long findLastSeq(UUID tenantId) {
+        numberOwnChanges();
+        List<Long> lastSeq = jdbcTemplate.queryForList(
+                "SELECT last_seq FROM tenant_change_seq WHERE tenant_id = ?", Long.class, tenantId);
+        return lastSeq.isEmpty() ? 0 : lastSeq.get(0);
+    }
+
+    // Highest sequence number of a purged tombstone, 0 if none was purged yet
+    public long findPurgedSeq(UUID tenantId) {
+        List<Long> purgedSeq = jdbcTemplate.queryForList(
+                "SELECT purged_seq FROM tenant_change_seq WHERE tenant_id = ?", Long.class, tenantId);
+        return purgedSeq.isEmpty() ? 0 : purgedSeq.get(0);
+    }
+
+    // Deletes tombstones older than the retention window and raises each affected
+    // tenant's purge horizon, in batches that each commit on their own (so call
+    // it outside a transaction). Served by idx_change_log_tombstones.
+    public int purgeTombstones(Duration retention, int batchSize) {
+        int purged = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.queryForObject(
+                    "WITH purged AS ("
+                            + " DELETE FROM change_log c USING ("
+                            + "  SELECT tenant_id, entity_type, entity_id FROM change_log"
+                            + "  WHERE deleted AND changed_at < localtimestamp - make_interval(secs => ?) LIMIT ?"
+                            + " ) old"
+                            + " WHERE c.tenant_id = old.tenant_id AND c.entity_type = old.entity_type"
+                            + "  AND c.entity_id = old.entity_id"
+                            + " RETURNING c.tenant_id, c.seq"
+                            + "), horizon AS ("
+                            + " UPDATE tenant_change_seq s SET purged_seq = greatest(s.purged_seq, p.max_seq)"
+                            + " FROM (SELECT tenant_id, max(seq) AS max_seq FROM purged GROUP BY tenant_id) p"
+                            + " WHERE s.tenant_id = p.tenant_id"
+                            + ") SELECT count(*) FROM purged",
+                    Integer.class, retention.toSeconds(), batchSize);
+            purged += batch;
+        } while (batch == batchSize);
+        return purged;
+    }
+
+    // Changes are numbered when their transaction commits. A read-write
+    // transaction reading the feed after its own writes has them numbered now;
+    // read-only transactions, which every API read runs in, have none to number.
+    private void numberOwnChanges() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            jdbcTemplate.execute("SET CONSTRAINTS change_log_flush IMMEDIATE; SET CONSTRAINTS change_log_flush DEFERRED");
+        }
+    }
+
+    public record Entry(SyncTombstone.EntityType type, UUID entityId, long seq, boolean deleted, Instant changedAt) {
+    }
+}
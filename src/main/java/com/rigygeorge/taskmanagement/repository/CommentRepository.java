@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, UUID> {
+public interface CommentRepository extends JpaRepository<Comment, UUID>, CommentRepositoryCustom {
     List<Comment> findByTaskIdOrderByCreatedAtDesc(UUID taskId);
     List<Comment> findByTenantId(UUID tenantId);
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.CommentResponse;
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface CommentRepositoryCustom {
+
+    /**
+     * Keyset page of a task's comments, newest first, starting after the
+     * cursor row when one is given. Rows are projected straight into
+     * CommentResponse; with columns (null for all) only those are read and
+     * every other property is left null.
+     */
+    List<CommentResponse> findResponses(UUID taskId, PageCursor after, int limit, Set<String> columns);
+}
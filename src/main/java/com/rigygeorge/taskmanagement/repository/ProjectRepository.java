@@ -1,14 +1,34 @@
 package com.rigygeorge.taskmanagement.repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.rigygeorge.taskmanagement.entity.Project;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, ProjectRepositoryCustom {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findByTenantId(UUID tenantId);
-}
\ No newline at end of file
+
+    // Only the version column, so a conditional GET can answer 304 without loading the project
+    @Query("SELECT p.updatedAt FROM Project p WHERE p.id = :id AND p.tenantId = :tenantId")
+    Optional<Instant> findUpdatedAt(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    // SELECT ... FOR UPDATE, held until commit; used to check If-Match race-free
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") UUID id);
+}
@@ -0,0 +1,19 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.ProjectResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProjectRepositoryCustom {
+
+    /**
+     * Keyset page of the tenant's projects, newest first, starting after the
+     * cursor row when one is given. Rows are projected straight into
+     * ProjectResponse; with columns (null for all) only those are read and
+     * every other property is left null.
+     */
+    List<ProjectResponse> findResponses(UUID tenantId, PageCursor after, int limit, Set<String> columns);
+}
@@ -0,0 +1,52 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.ProjectResponse;
+import com.rigygeorge.taskmanagement.entity.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    // Argument order of the ProjectResponse constructor
+    private static final List<String> RESPONSE_ATTRIBUTES = List.of(
+            "id", "name", "description", "createdBy", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProjectResponse> findResponses(UUID tenantId, PageCursor after, int limit, Set<String> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectResponse> query = cb.createQuery(ProjectResponse.class);
+        Root<Project> root = query.from(Project.class);
+        Path<Instant> createdAt = root.get("createdAt");
+        Path<UUID> id = root.get("id");
+
+        Predicate predicate = cb.equal(root.get("tenantId"), tenantId);
+        if (after != null) {
+            // Past the cursor row in (created_at DESC, id DESC) order
+            Instant afterCreatedAt = after.getInstantValue();
+            predicate = cb.and(predicate,
+                    cb.lessThanOrEqualTo(createdAt, afterCreatedAt),
+                    cb.or(cb.lessThan(createdAt, afterCreatedAt), cb.lessThan(id, after.getId())));
+        }
+        query.select(Projections.construct(cb, root, ProjectResponse.class, RESPONSE_ATTRIBUTES, columns))
+                .where(predicate)
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
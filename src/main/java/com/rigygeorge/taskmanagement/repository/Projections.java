@@ -0,0 +1,31 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+import java.util.Set;
+
+final class Projections {
+
+    private Projections() {
+    }
+
+    // Constructor expression over the given attributes, in constructor order.
+    // Attributes outside the selection (null selects all) are passed as typed
+    // NULL literals, so their columns never appear in the SQL select list.
+    static <T> CompoundSelection<T> construct(CriteriaBuilder cb, Root<?> root, Class<T> type,
+                                              List<String> attributes, Set<String> selected) {
+        Selection<?>[] arguments = new Selection<?>[attributes.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            Path<?> path = root.get(attributes.get(i));
+            arguments[i] = selected == null || selected.contains(attributes.get(i))
+                    ? path
+                    : cb.nullLiteral(path.getJavaType());
+        }
+        return cb.construct(type, arguments);
+    }
+}
@@ -0,0 +1,48 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Renders task lists as JSON inside PostgreSQL, so the bytes can go to the
+ * client without entities, DTOs or Jackson in between. The columns, names
+ * and formats mirror TaskResponse as the API serializes it: timestamps go
+ * through iso_instant() (see V7__add_iso_instant_function.sql).
+ */
+@Repository
+public class TaskJsonRepository {
+
+    // row_to_json writes compact JSON with the keys in this order
+    private static final String RENDER_TASKS =
+            "SELECT '[' || coalesce(string_agg(row_to_json(t)::text, ',' ORDER BY p.ord), '') || ']' "
+            + "FROM unnest(?::uuid[]) WITH ORDINALITY AS p(id, ord) "
+            + "CROSS JOIN LATERAL ("
+            + "SELECT tasks.id AS \"id\", tasks.project_id AS \"projectId\", tasks.title AS \"title\", "
+            + "tasks.description AS \"description\", tasks.status AS \"status\", tasks.priority AS \"priority\", "
+            + "tasks.assigned_to AS \"assignedTo\", tasks.created_by AS \"createdBy\", "
+            + "iso_instant(tasks.due_date::timestamptz) AS \"dueDate\", "
+            + "iso_instant(tasks.created_at::timestamptz) AS \"createdAt\", "
+            + "iso_instant(tasks.updated_at::timestamptz) AS \"updatedAt\" "
+            + "FROM tasks WHERE tasks.id = p.id AND tasks.tenant_id = ?"
+            + ") t";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskJsonRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // UTF-8 JSON array of the given tasks in the given order; ids of other
+    // tenants' tasks are skipped. The timestamp columns hold local times of
+    // the session time zone (which is how Hibernate writes Instants to them),
+    // hence the ::timestamptz casts before formatting as UTC.
+    public byte[] renderTasks(UUID tenantId, List<UUID> ids) {
+        String idArray = ids.stream().map(UUID::toString).collect(Collectors.joining(",", "{", "}"));
+        // pgjdbc hands back the UTF-8 bytes of a text column as received, without building a String
+        return jdbcTemplate.queryForObject(RENDER_TASKS, (rs, rowNum) -> rs.getBytes(1), idArray, tenantId);
+    }
+}
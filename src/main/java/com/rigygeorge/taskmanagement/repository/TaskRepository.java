@@ -1,18 +1,34 @@
 package com.rigygeorge.taskmanagement.repository;
 
 import com.rigygeorge.taskmanagement.entity.Task;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
     List<Task> findByTenantId(UUID tenantId);
     List<Task> findByProjectId(UUID projectId);
     List<Task> findByAssignedTo(UUID assignedTo);
     List<Task> findByTenantIdAndStatus(UUID tenantId, Task.TaskStatus status);
     List<Task> findByTenantIdAndPriority(UUID tenantId, Task.TaskPriority priority);
     List<Task> findByTenantIdAndAssignedTo(UUID tenantId, UUID assignedTo);
-}
\ No newline at end of file
+
+    // Only the version column, so a conditional GET can answer 304 without loading the task
+    @Query("SELECT t.updatedAt FROM Task t WHERE t.id = :id AND t.tenantId = :tenantId")
+    Optional<Instant> findUpdatedAt(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    // SELECT ... FOR UPDATE, held until commit; used to check If-Match race-free
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") UUID id);
+}
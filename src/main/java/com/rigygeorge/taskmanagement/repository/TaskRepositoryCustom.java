@@ -0,0 +1,48 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.TaskChanges;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Streams matching tasks through a server-side cursor, fetching
+     * {@code fetchSize} rows per round-trip. Tasks are detached as they are
+     * read so the persistence context does not grow with the result. Must be
+     * called inside a transaction, and the stream must be closed.
+     */
+    Stream<Task> streamAll(Specification<Task> spec, Sort sort, int fetchSize);
+
+    /**
+     * Selects only the columns of {@link TaskResponse} for the first
+     * {@code limit} matching tasks. Rows are built with a constructor
+     * expression, so no entity is hydrated, snapshotted or dirty-checked.
+     * With {@code columns} set, every other property is left null and its
+     * column is not read at all (null reads every column).
+     */
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit, Set<String> columns);
+
+    /**
+     * Ids of up to {@code limit} matching tasks with an id greater than
+     * {@code afterId} (or from the start when null), in id order. Used to walk
+     * a large selection in chunks.
+     */
+    List<UUID> findIdsAfter(Specification<Task> spec, UUID afterId, int limit);
+
+    /**
+     * Applies {@code changes} to the given tasks of the tenant with a single
+     * UPDATE statement and returns the number of rows changed. Bypasses the
+     * persistence context, so {@code updatedAt} is set explicitly.
+     */
+    int updateByIds(UUID tenantId, Collection<UUID> ids, TaskChanges changes, Instant updatedAt);
+}
@@ -0,0 +1,122 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.TaskChanges;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    // Argument order of the TaskResponse constructor
+    private static final List<String> RESPONSE_ATTRIBUTES = List.of(
+            "id", "projectId", "title", "description", "status", "priority",
+            "assignedTo", "createdBy", "dueDate", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Task> streamAll(Specification<Task> spec, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        // PostgreSQL only honours the fetch size (instead of buffering the
+        // whole result) when the connection is not in auto-commit mode
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(task -> {
+                    entityManager.detach(task);
+                    return task;
+                });
+    }
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit, Set<String> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(Projections.construct(cb, root, TaskResponse.class, RESPONSE_ATTRIBUTES, columns));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<UUID> findIdsAfter(Specification<Task> spec, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Task> root = query.from(Task.class);
+        Path<UUID> id = root.get("id");
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (afterId != null) {
+            predicate = cb.and(predicate, cb.greaterThan(id, afterId));
+        }
+        query.select(id).where(predicate).orderBy(cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int updateByIds(UUID tenantId, Collection<UUID> ids, TaskChanges changes, Instant updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        if (changes.getStatus() != null) {
+            update.set(root.<Task.TaskStatus>get("status"), changes.getStatus());
+        }
+        if (changes.getPriority() != null) {
+            update.set(root.<Task.TaskPriority>get("priority"), changes.getPriority());
+        }
+        if (changes.isClearAssignee()) {
+            update.set(root.<UUID>get("assignedTo"), cb.nullLiteral(UUID.class));
+        } else if (changes.getAssignedTo() != null) {
+            update.set(root.<UUID>get("assignedTo"), changes.getAssignedTo());
+        }
+        if (changes.isClearDueDate()) {
+            update.set(root.<Instant>get("dueDate"), cb.nullLiteral(Instant.class));
+        } else if (changes.getDueDate() != null) {
+            update.set(root.<Instant>get("dueDate"), changes.getDueDate());
+        }
+        if (changes.getProjectId() != null) {
+            update.set(root.<UUID>get("projectId"), changes.getProjectId());
+        }
+        update.set(root.<Instant>get("updatedAt"), updatedAt);
+
+        // The tenant predicate keeps ids from other tenants out even if a caller passes them
+        update.where(
+                cb.equal(root.get("tenantId"), tenantId),
+                root.get("id").in(ids));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
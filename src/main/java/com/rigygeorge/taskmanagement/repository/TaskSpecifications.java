@@ -0,0 +1,134 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(UUID tenantId, TaskFilter filter) {
+        return matching(tenantId, filter, null);
+    }
+
+    // Builds a single tenant-scoped WHERE clause from whichever filters are set.
+    // The tenant predicate always comes first so every combination can use a
+    // (tenant_id, ...) composite index from V3__add_task_filter_indexes.sql.
+    // When a cursor is given, rows up to and including the cursor row are
+    // skipped by seeking on (sort column, id) rather than with an OFFSET.
+    public static Specification<Task> matching(UUID tenantId, TaskFilter filter, PageCursor after) {
+        SeekValue seekValue = after != null ? SeekValue.of(filter, after) : null;
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
+            }
+            if (filter.getProjectId() != null) {
+                predicates.add(cb.equal(root.get("projectId"), filter.getProjectId()));
+            }
+            if (filter.getAssigneeId() != null) {
+                predicates.add(cb.equal(root.get("assignedTo"), filter.getAssigneeId()));
+            }
+            if (filter.getDueAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Instant>get("dueDate"), filter.getDueAfter()));
+            }
+            if (filter.getDueBefore() != null) {
+                predicates.add(cb.lessThan(root.<Instant>get("dueDate"), filter.getDueBefore()));
+            }
+            if (filter.getCreatedAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Instant>get("createdAt"), filter.getCreatedAfter()));
+            }
+            if (filter.getCreatedBefore() != null) {
+                predicates.add(cb.lessThan(root.<Instant>get("createdAt"), filter.getCreatedBefore()));
+            }
+
+            if (seekValue != null) {
+                boolean ascending = filter.getDirection().isAscending();
+                Path<UUID> id = root.get("id");
+                Predicate idAfter = ascending
+                        ? cb.greaterThan(id, after.getId())
+                        : cb.lessThan(id, after.getId());
+
+                if (filter.getSortBy() == TaskFilter.SortField.TITLE) {
+                    predicates.add(seek(cb, root.<String>get("title"), seekValue.text, idAfter, ascending, false));
+                } else {
+                    boolean nullable = filter.getSortBy() == TaskFilter.SortField.DUE_DATE;
+                    predicates.add(seek(cb, root.<Instant>get(filter.getSortBy().getProperty()),
+                            seekValue.instant, idAfter, ascending, nullable));
+                }
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Sort value of a task row as stored in a cursor for the given sort key
+    public static String cursorValue(TaskResponse task, TaskFilter.SortField sortBy) {
+        return switch (sortBy) {
+            case CREATED_AT -> task.getCreatedAt().toString();
+            case UPDATED_AT -> task.getUpdatedAt().toString();
+            case DUE_DATE -> task.getDueDate() != null ? task.getDueDate().toString() : null;
+            case TITLE -> task.getTitle();
+        };
+    }
+
+    public static String sortKey(TaskFilter filter) {
+        return filter.getSortBy().name() + ":" + filter.getDirection().name();
+    }
+
+    // The redundant "column >= value" bound is what lets PostgreSQL start the
+    // index range scan at the cursor, so a deep page costs the same as the
+    // first. Only due_date is nullable; PostgreSQL sorts NULLs last ascending
+    // and first descending, which the null branches mirror.
+    private static <Y extends Comparable<? super Y>> Predicate seek(
+            CriteriaBuilder cb, Path<Y> column, Y value, Predicate idAfter, boolean ascending, boolean nullable) {
+        if (value == null) {
+            Predicate sameGroup = cb.and(cb.isNull(column), idAfter);
+            return ascending || !nullable ? sameGroup : cb.or(sameGroup, cb.isNotNull(column));
+        }
+
+        Predicate tieBroken = cb.or(
+                ascending ? cb.greaterThan(column, value) : cb.lessThan(column, value),
+                idAfter);
+        Predicate range = cb.and(
+                ascending ? cb.greaterThanOrEqualTo(column, value) : cb.lessThanOrEqualTo(column, value),
+                tieBroken);
+        return ascending && nullable ? cb.or(range, cb.isNull(column)) : range;
+    }
+
+    private static final class SeekValue {
+        private final Instant instant;
+        private final String text;
+
+        private SeekValue(Instant instant, String text) {
+            this.instant = instant;
+            this.text = text;
+        }
+
+        static SeekValue of(TaskFilter filter, PageCursor cursor) {
+            cursor.requireSortKey(sortKey(filter));
+            if (filter.getSortBy() == TaskFilter.SortField.TITLE || cursor.getValue() == null) {
+                return new SeekValue(null, cursor.getValue());
+            }
+            return new SeekValue(cursor.getInstantValue(), null);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,44 +19,82 @@ import java.io.IOException;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    
+
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
-    
+    private final PrincipalCache principalCache;
+
+    // When true the principal is built from verified claims and no user row is read per request
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
-        
+
         // Get JWT token from Authorization header
         String authHeader = request.getHeader("Authorization");
-        
+
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
-        
+
         String jwt = authHeader.substring(7); // Remove "Bearer " prefix
-        String userEmail = jwtUtil.extractUsername(jwt);
-        
-        // If token is valid and user is not already authenticated
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-            
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+
+        // If user is not already authenticated
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            // One signature verification per request, or none for a recently seen token
+            JwtClaims claims = jwtUtil.verify(jwt);
+            UserDetails userDetails = stateless ? loadFromClaims(claims) : loadFromDatabase(claims);
+
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
                     userDetails.getAuthorities()
                 );
-                
+
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
-        
+
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // Verification covers the signature and expiry, so the claims can be trusted as-is.
+    // Only the token version and display name come from the (cached) user row.
+    private UserDetails loadFromClaims(JwtClaims claims) {
+        PrincipalCache.CachedPrincipal cached = principalCache.get(claims.getUserId());
+        if (cached == null || claims.getTokenVersion() < cached.getTokenVersion()) {
+            return null;
+        }
+
+        return new CustomUserDetails(
+            claims.getUserId(),
+            claims.getTenantId(),
+            claims.getEmail(),
+            null,
+            cached.getFirstName(),
+            cached.getLastName(),
+            claims.getRole()
+        );
+    }
+
+    private UserDetails loadFromDatabase(JwtClaims claims) {
+        if (claims.getEmail() == null) {
+            return null;
+        }
+
+        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(claims.getEmail());
+        PrincipalCache.CachedPrincipal cached = principalCache.get(userDetails.getId());
+        if (cached == null || claims.getTokenVersion() < cached.getTokenVersion()) {
+            return null;
+        }
+        return userDetails;
+    }
+}
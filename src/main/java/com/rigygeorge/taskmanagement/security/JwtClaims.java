@@ -0,0 +1,24 @@
+package com.rigygeorge.taskmanagement.security;
+
+import com.rigygeorge.taskmanagement.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a token whose signature and expiry have already been verified
+ * by {@link JwtUtil#verify(String)}. Immutable, so instances can be cached.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    private final UUID userId;
+    private final UUID tenantId;
+    private final String email;
+    private final User.Role role;
+    private final int tokenVersion;
+    private final Instant expiresAt;
+}
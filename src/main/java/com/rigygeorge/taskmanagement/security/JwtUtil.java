@@ -1,7 +1,11 @@
 package com.rigygeorge.taskmanagement.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.rigygeorge.taskmanagement.entity.User;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,105 +13,147 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
-    
-    @Value("${jwt.secret}")
-    private String secret;
-    
-    @Value("${jwt.expiration}")
-    private Long expiration;
-    
+
+    private final long expiration;
+
+    // Both are immutable and thread-safe, so they are built once instead of per call
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // SHA-256 digest of a recently verified token -> its claims. Entries never
+    // outlive the token itself, so a hit is as good as a fresh verification.
+    private final Cache<String, JwtClaims> verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(Expiry.<String, JwtClaims>creating((digest, claims) ->
+                        Duration.between(Instant.now(), claims.getExpiresAt())))
+                .build();
+    }
+
     // Generate token for user
-    public String generateToken(UUID userId, String email, String role, UUID tenantId) {
+    public String generateToken(UUID userId, String email, String role, UUID tenantId, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
         // Custom claims
         claims.put("userId", userId.toString());
         claims.put("email", email);
         claims.put("role", role);
         claims.put("tenantId", tenantId.toString());
-        
+        claims.put("tokenVersion", tokenVersion);
+
         return createToken(claims, email);
     }
-    
+
     // Create JWT token
     private String createToken(Map<String, Object> claims, String subject) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
-        
+
         return Jwts.builder()
                 .claims(claims) // FIX 1: New API method instead of deprecated .setClaims()
                 .subject(subject) // FIX 2: Modern replacement for .setSubject()
                 .issuedAt(now)    // Modern replacement for .setIssuedAt()
                 .expiration(expiryDate) // Modern replacement for .setExpiration()
-                .signWith(getSigningKey(), Jwts.SIG.HS256) // FIX 3: Use Jwts.SIG for algorithm constants
+                .signWith(signingKey, Jwts.SIG.HS256) // FIX 3: Use Jwts.SIG for algorithm constants
                 .compact();
     }
-    
-    // Get signing key
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+
+    /**
+     * Verifies the token's signature and expiry once and returns its claims.
+     * Repeat presentations of the same token are answered from a bounded
+     * cache keyed by the token's SHA-256 digest. Throws a
+     * {@link io.jsonwebtoken.JwtException} if the token is invalid or expired.
+     */
+    public JwtClaims verify(String token) {
+        String digest = digest(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.getExpiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        Claims claims = extractAllClaims(token);
+        Integer version = claims.get("tokenVersion", Integer.class);
+        JwtClaims verified = new JwtClaims(
+            UUID.fromString(claims.get("userId", String.class)),
+            UUID.fromString(claims.get("tenantId", String.class)),
+            claims.getSubject(),
+            User.Role.valueOf(claims.get("role", String.class)),
+            version != null ? version : 0, // tokens issued before versioning count as version 0
+            claims.getExpiration().toInstant()
+        );
+        verifiedTokens.put(digest, verified);
+        return verified;
     }
-    
+
     // Extract username (email) from token
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).getEmail();
     }
-    
+
     // Extract user ID from token
     public UUID extractUserId(String token) {
-        String userIdStr = extractClaim(token, claims -> claims.get("userId", String.class));
-        return UUID.fromString(userIdStr);
+        return verify(token).getUserId();
     }
-    
+
     // Extract tenant ID from token
     public UUID extractTenantId(String token) {
-        String tenantIdStr = extractClaim(token, claims -> claims.get("tenantId", String.class));
-        return UUID.fromString(tenantIdStr);
+        return verify(token).getTenantId();
     }
-    
+
     // Extract role from token
     public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+        return verify(token).getRole().name();
     }
-    
+
     // Extract expiration date
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Date.from(verify(token).getExpiresAt());
     }
-    
+
     // Extract specific claim
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
-    
+
     // Extract all claims (The core of token parsing and verification)
     private Claims extractAllClaims(String token) {
-        // FIX 4: Use Jwts.parser() and the modern method .verifyWith(key)
-        Jws<Claims> jws = Jwts.parser()
-                .verifyWith(getSigningKey()) // FIX: Use verifyWith(key) instead of deprecated setSigningKey()
-                .build()
-                .parseSignedClaims(token); // FIX: Use .parseSignedClaims() for JWS tokens
-        
-        return jws.getPayload(); // Get the claims body from the Jws object
-    }
-    
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parser.parseSignedClaims(token).getPayload();
     }
-    
-    // Validate token
+
+    // Validate token; the parser already rejects expired tokens
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        return verify(token).getEmail().equals(username);
+    }
+
+    private static String digest(String token) {
+        try {
+            // MessageDigest is not thread-safe; a new instance per call is cheap
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.rigygeorge.taskmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rigygeorge.taskmanagement.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Sliding-window count of failed logins per email and per client IP. Checked
+ * before any password hash is computed, so a throttled caller costs nothing
+ * but a map lookup.
+ *
+ * <p>An attempt let through by {@link #checkAllowed} holds a slot until it is
+ * resolved by {@link #recordFailure}, {@link #recordSuccess} or
+ * {@link #release}; the check and the reservation happen in one atomic step
+ * per key, so concurrent attempts cannot all pass before the first failure
+ * is recorded.
+ */
+@Component
+public class LoginThrottle {
+
+    // Retry-After when the window is full of attempts that are still in progress
+    private static final long IN_FLIGHT_RETRY_MILLIS = 1000;
+
+    private final long windowMillis;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+
+    // Key -> failures inside the window and attempts in progress; only
+    // touched inside compute, which runs atomically per key
+    private final Cache<String, Window> windows;
+
+    public LoginThrottle(@Value("${security.login.throttle.window:15m}") Duration window,
+                         @Value("${security.login.throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${security.login.throttle.max-failures-per-ip:50}") int maxFailuresPerIp) {
+        this.windowMillis = window.toMillis();
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windows = Caffeine.newBuilder()
+                .expireAfterAccess(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    // Throws when either key is at its limit; otherwise reserves a slot under both
+    public void checkAllowed(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        String emailKey = emailKey(email);
+        long retryAfter = reserve(emailKey, maxFailuresPerEmail, now);
+        if (retryAfter == 0) {
+            retryAfter = reserve(ipKey(clientIp), maxFailuresPerIp, now);
+            if (retryAfter > 0) {
+                update(emailKey, Window::release);
+            }
+        }
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many failed login attempts, please retry later",
+                    Math.max(1, (retryAfter + 999) / 1000));
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        update(emailKey(email), window -> window.fail(now));
+        update(ipKey(clientIp), window -> window.fail(now));
+    }
+
+    // A successful login clears the email's history; the IP keeps its count
+    public void recordSuccess(String email, String clientIp) {
+        windows.invalidate(emailKey(email));
+        update(ipKey(clientIp), Window::release);
+    }
+
+    // For attempts that ended without a verdict on the password, e.g. a saturated hashing pool
+    public void release(String email, String clientIp) {
+        update(emailKey(email), Window::release);
+        update(ipKey(clientIp), Window::release);
+    }
+
+    // Milliseconds until the window has room again, or 0 once a slot is reserved
+    private long reserve(String key, int maxFailures, long now) {
+        long[] retryAfter = {0};
+        windows.asMap().compute(key, (k, window) -> {
+            if (window == null) {
+                window = new Window();
+            }
+            window.prune(now - windowMillis);
+            if (window.failures.size() + window.pending < maxFailures) {
+                window.pending++;
+            } else {
+                Long oldest = window.failures.peekFirst();
+                retryAfter[0] = oldest != null ? Math.max(1, oldest + windowMillis - now) : IN_FLIGHT_RETRY_MILLIS;
+            }
+            return window;
+        });
+        return retryAfter[0];
+    }
+
+    private void update(String key, Consumer<Window> change) {
+        windows.asMap().compute(key, (k, window) -> {
+            if (window == null) {
+                window = new Window();
+            }
+            change.accept(window);
+            return window;
+        });
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static final class Window {
+
+        // Failure timestamps, oldest first
+        private final Deque<Long> failures = new ArrayDeque<>();
+        private int pending;
+
+        void prune(long cutoff) {
+            Long oldest;
+            while ((oldest = failures.peekFirst()) != null && oldest <= cutoff) {
+                failures.pollFirst();
+            }
+        }
+
+        // The reserved slot becomes a failure; failures recorded without a
+        // reservation still count
+        void fail(long now) {
+            release();
+            failures.addLast(now);
+        }
+
+        void release() {
+            if (pending > 0) {
+                pending--;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.rigygeorge.taskmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rigygeorge.taskmanagement.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Per-user state that token claims do not carry: the current token version
+ * (for revocation) and the display name. Entries expire after the configured
+ * TTL, which bounds how long a revocation made on another instance takes to
+ * be seen here; revocations made on this instance evict immediately.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, CachedPrincipal> cache;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${jwt.principal-cache.ttl:60s}") Duration ttl,
+                          @Value("${jwt.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    // Returns null when the user no longer exists; misses are not cached
+    public CachedPrincipal get(UUID userId) {
+        return cache.get(userId, id -> userRepository.findById(id)
+                .map(user -> new CachedPrincipal(user.getTokenVersion(), user.getFirstName(), user.getLastName()))
+                .orElse(null));
+    }
+
+    // Evicts now and again after commit, so a concurrent request that re-reads the
+    // old version before the revoking transaction commits cannot keep it cached
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPrincipal {
+        private final int tokenVersion;
+        private final String firstName;
+        private final String lastName;
+    }
+}
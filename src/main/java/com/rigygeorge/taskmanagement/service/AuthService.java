@@ -6,17 +6,23 @@ import com.rigygeorge.taskmanagement.dto.RegisterRequest;
 import com.rigygeorge.taskmanagement.entity.Tenant;
 import com.rigygeorge.taskmanagement.entity.User;
 import com.rigygeorge.taskmanagement.exception.ResourceAlreadyExistsException;
+import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
 import com.rigygeorge.taskmanagement.repository.TenantRepository;
 import com.rigygeorge.taskmanagement.repository.UserRepository;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
 import com.rigygeorge.taskmanagement.security.JwtUtil;
+import com.rigygeorge.taskmanagement.security.LoginThrottle;
+import com.rigygeorge.taskmanagement.security.PasswordHashingService;
+import com.rigygeorge.taskmanagement.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -25,7 +31,14 @@ public class AuthService {
     private final TenantRepository tenantRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final AuthenticationManager authenticationManager;
+    private final PrincipalCache principalCache;
+    private final PasswordHashingService passwordHasher;
+    private final LoginThrottle loginThrottle;
+    private final EntityChangePublisher entityChangePublisher;
+    
+    private CustomUserDetails getCurrentUser() {
+        return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
     
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -43,19 +56,22 @@ public class AuthService {
         User user = new User();
         user.setTenantId(tenant.getId());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setRole(User.Role.ADMIN); // First user is admin
         
         user = userRepository.save(user);
+        // Other instances may hold a cached "no such email" result
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.USER, user.getId(), user.getTenantId());
         
         // Generate JWT token
         String token = jwtUtil.generateToken(
             user.getId(),
             user.getEmail(),
             user.getRole().name(),
-            user.getTenantId()
+            user.getTenantId(),
+            user.getTokenVersion()
         );
         
         return new AuthResponse(
@@ -68,25 +84,47 @@ public class AuthService {
         );
     }
     
-    public AuthResponse login(LoginRequest request) {
-        // Authenticate user (this will throw BadCredentialsException if wrong password)
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(
-                request.getEmail(),
-                request.getPassword()
-            )
-        );
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        // Throttled callers are turned away before any hash is computed; the
+        // others hold a throttle slot until the password has been checked
+        loginThrottle.checkAllowed(request.getEmail(), clientIp);
         
-        // Get user details
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user;
+        boolean valid;
+        try {
+            user = userRepository.findByEmail(request.getEmail()).orElse(null);
+            
+            // BCrypt runs on the bounded hashing pool; unknown emails are checked
+            // against a dummy hash so they cost the same as a wrong password
+            valid = user != null
+                    ? passwordHasher.matches(request.getPassword(), user.getPassword())
+                    : passwordHasher.matchesDummy(request.getPassword());
+        } catch (RuntimeException e) {
+            // No verdict on the password (e.g. the hashing pool is saturated)
+            loginThrottle.release(request.getEmail(), clientIp);
+            throw e;
+        }
+        
+        if (!valid) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
+            throw new BadCredentialsException("Invalid email or password");
+        }
+        loginThrottle.recordSuccess(request.getEmail(), clientIp);
+        
+        // Rehash transparently when the configured BCrypt cost has been raised
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordHasher.encode(request.getPassword()));
+            user = userRepository.save(user);
+            entityChangePublisher.publish(EntityChangeEvent.EntityType.USER, user.getId(), user.getTenantId());
+        }
         
         // Generate JWT token
         String token = jwtUtil.generateToken(
             user.getId(),
             user.getEmail(),
             user.getRole().name(),
-            user.getTenantId()
+            user.getTenantId(),
+            user.getTokenVersion()
         );
         
         return new AuthResponse(
@@ -98,4 +136,28 @@ public class AuthService {
             user.getRole().name()
         );
     }
-}
\ No newline at end of file
+    
+    @Transactional
+    public void logout() {
+        revokeTokens(getCurrentUser().getId());
+    }
+    
+    // Invalidates every token issued to the user so far by bumping their token version
+    @Transactional
+    public void revokeTokens(UUID userId) {
+        CustomUserDetails currentUser = getCurrentUser();
+        
+        if (!userId.equals(currentUser.getId())) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+            
+            if (!user.getTenantId().equals(currentUser.getTenantId())) {
+                throw new ResourceNotFoundException("User not found");
+            }
+        }
+        
+        userRepository.incrementTokenVersion(userId);
+        principalCache.evict(userId);
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.USER, userId, currentUser.getTenantId());
+    }
+}
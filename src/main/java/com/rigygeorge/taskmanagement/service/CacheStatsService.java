@@ -0,0 +1,66 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.CacheRegionStats;
+import com.rigygeorge.taskmanagement.dto.CacheStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads second-level and query cache counters from Hibernate statistics,
+ * plus the counters of the list {@link ResponseCache} and the off-heap
+ * {@link TaskFragmentCache}.
+ * Counters are per application instance and cumulative since startup.
+ */
+@Service
+public class CacheStatsService {
+
+    private final Statistics statistics;
+    private final ResponseCache responseCache;
+    private final TaskFragmentCache taskFragmentCache;
+
+    public CacheStatsService(EntityManagerFactory entityManagerFactory, ResponseCache responseCache,
+                             TaskFragmentCache taskFragmentCache) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.responseCache = responseCache;
+        this.taskFragmentCache = taskFragmentCache;
+    }
+
+    public CacheStatsResponse getStats() {
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+
+        List<CacheRegionStats> entityRegions = new ArrayList<>();
+        for (String regionName : regionNames) {
+            // The query results and update timestamps regions are not entity regions
+            if (regionName.equals(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)
+                    || regionName.equals(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+                continue;
+            }
+            entityRegions.add(toStats(regionName, statistics.getDomainDataRegionStatistics(regionName)));
+        }
+
+        CacheRegionStats queryCache = toStats(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME));
+
+        return new CacheStatsResponse(statistics.isStatisticsEnabled(), entityRegions, queryCache,
+                responseCache.stats(), taskFragmentCache.stats(), taskFragmentCache.usedBytes(),
+                taskFragmentCache.capacityBytes());
+    }
+
+    // Region statistics are null until the region has been used
+    private CacheRegionStats toStats(String regionName, CacheRegionStatistics region) {
+        if (region == null) {
+            return new CacheRegionStats(regionName, 0, 0, 0, 0);
+        }
+        return new CacheRegionStats(regionName, region.getHitCount(), region.getMissCount(),
+                region.getPutCount(), region.getElementCountInMemory());
+    }
+}
@@ -0,0 +1,66 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.repository.ChangeLogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purges sync tombstones once they are older than the retention window, so the
+ * change log keeps one row per live entity instead of one per entity ever
+ * deleted. Clients whose token predates a purged tombstone get a 410 from
+ * GET /api/sync and start over with a full sync. Every instance runs the
+ * purge; concurrent runs simply find less to delete.
+ */
+@Slf4j
+@Component
+public class ChangeLogRetention {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Duration retention;
+    private final ScheduledExecutorService scheduler;
+
+    public ChangeLogRetention(ChangeLogRepository changeLogRepository,
+                              @Value("${sync.tombstone-retention:30d}") Duration retention,
+                              @Value("${sync.tombstone-purge-interval:1h}") Duration purgeInterval) {
+        this.changeLogRepository = changeLogRepository;
+        this.retention = retention;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-log-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long purgeMillis = purgeInterval.toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::purgeQuietly, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Number of tombstones purged
+    public int purge() {
+        return changeLogRepository.purgeTombstones(retention, BATCH_SIZE);
+    }
+
+    // An exception would cancel all later runs
+    private void purgeQuietly() {
+        try {
+            int purged = purge();
+            if (purged > 0) {
+                log.info("Purged {} sync tombstones older than {}", purged, retention);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Sync tombstone purge failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -2,13 +2,16 @@ package com.rigygeorge.taskmanagement.service;
 
 import com.rigygeorge.taskmanagement.dto.CommentResponse;
 import com.rigygeorge.taskmanagement.dto.CreateCommentRequest;
+import com.rigygeorge.taskmanagement.dto.CursorPage;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
 import com.rigygeorge.taskmanagement.entity.Comment;
 import com.rigygeorge.taskmanagement.entity.Task;
 import com.rigygeorge.taskmanagement.entity.User;
 import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
 import com.rigygeorge.taskmanagement.repository.CommentRepository;
 import com.rigygeorge.taskmanagement.repository.TaskRepository;
-import com.rigygeorge.taskmanagement.repository.UserRepository;
 import com.rigygeorge.taskmanagement.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,6 +19,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,9 +28,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
     
+    private static final String SORT_KEY = "CREATED_AT:DESC";
+    
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final UserDisplayNameCache userDisplayNameCache;
+    private final TenantGenerations tenantGenerations;
+    private final EntityChangePublisher entityChangePublisher;
+    private final TaskEventHub taskEventHub;
     
     private CustomUserDetails getCurrentUser() {
         return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -50,12 +60,20 @@ public class CommentService {
         comment.setContent(request.getContent());
         
         comment = commentRepository.save(comment);
+        tenantGenerations.bump(currentUser.getTenantId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.COMMENT, comment.getId(), currentUser.getTenantId());
         
-        return mapToResponse(comment, currentUser.getEmail(), 
+        CommentResponse response = mapToResponse(comment, currentUser.getEmail(), 
             currentUser.getFirstName() + " " + currentUser.getLastName());
+        taskEventHub.publish(currentUser.getTenantId(), TaskStreamEvent.comment(TaskStreamEvent.Type.COMMENT_CREATED,
+            taskId, task.getProjectId(), task.getAssignedTo(), response));
+        return response;
     }
     
-    public List<CommentResponse> getCommentsByTask(UUID taskId) {
+    // fields (null for all) limits the columns read; id and createdAt are always
+    // read for the cursor, and authors are only looked up when asked for
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getCommentsByTask(UUID taskId, String cursor, int limit, FieldSelection fields) {
         CustomUserDetails currentUser = getCurrentUser();
         
         // Verify task belongs to user's tenant
@@ -66,15 +84,41 @@ public class CommentService {
             throw new ResourceNotFoundException("Task not found");
         }
         
-        return commentRepository.findByTaskIdOrderByCreatedAtDesc(taskId)
-                .stream()
-                .map(comment -> {
-                    User user = userRepository.findById(comment.getUserId()).orElse(null);
-                    String email = user != null ? user.getEmail() : "Unknown";
-                    String name = user != null ? user.getFirstName() + " " + user.getLastName() : "Unknown";
-                    return mapToResponse(comment, email, name);
-                })
-                .collect(Collectors.toList());
+        int pageSize = PageCursor.clampLimit(limit);
+        PageCursor after = null;
+        if (cursor != null) {
+            after = PageCursor.decode(cursor);
+            after.requireSortKey(SORT_KEY);
+        }
+        
+        boolean withAuthors = fields == null || fields.includes("userEmail") || fields.includes("userName");
+        Set<String> columns = null;
+        if (fields != null) {
+            columns = withAuthors
+                    ? fields.withRequired("id", "createdAt", "userId")
+                    : fields.withRequired("id", "createdAt");
+        }
+        List<CommentResponse> comments = commentRepository.findResponses(taskId, after, pageSize + 1, columns);
+        
+        String nextCursor = null;
+        if (comments.size() > pageSize) {
+            comments = comments.subList(0, pageSize);
+            CommentResponse last = comments.get(pageSize - 1);
+            nextCursor = new PageCursor(SORT_KEY, last.getCreatedAt().toString(), last.getId()).encode();
+        }
+        
+        if (withAuthors) {
+            // Authors are resolved in one batch per page, mostly from the display-name cache
+            Set<UUID> authorIds = comments.stream().map(CommentResponse::getUserId).collect(Collectors.toSet());
+            Map<UUID, UserDisplayNameCache.DisplayName> authors =
+                    userDisplayNameCache.getAll(currentUser.getTenantId(), authorIds);
+            for (CommentResponse comment : comments) {
+                UserDisplayNameCache.DisplayName author = authors.get(comment.getUserId());
+                comment.setUserEmail(author != null ? author.getEmail() : "Unknown");
+                comment.setUserName(author != null ? author.getName() : "Unknown");
+            }
+        }
+        return new CursorPage<>(comments, nextCursor);
     }
     
     @Transactional
@@ -84,6 +128,10 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
         
+        if (!comment.getTenantId().equals(currentUser.getTenantId())) {
+            throw new ResourceNotFoundException("Comment not found");
+        }
+        
         // Only comment author or admin can delete
         if (!comment.getUserId().equals(currentUser.getId()) && 
             !currentUser.getRole().equals(User.Role.ADMIN)) {
@@ -91,6 +139,11 @@ public class CommentService {
         }
         
         commentRepository.delete(comment);
+        tenantGenerations.bump(comment.getTenantId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.COMMENT, commentId, comment.getTenantId());
+        // The task is not loaded here, so project/assignee filters cannot narrow this event
+        taskEventHub.publish(comment.getTenantId(), TaskStreamEvent.comment(TaskStreamEvent.Type.COMMENT_DELETED,
+            comment.getTaskId(), null, null, null));
     }
     
     private CommentResponse mapToResponse(Comment comment, String email, String name) {
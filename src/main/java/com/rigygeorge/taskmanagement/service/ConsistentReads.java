@@ -0,0 +1,22 @@
+package com.rigygeorge.taskmanagement.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a conditional read, the version behind the ETag and then the body, in
+ * one read-only transaction. The service calls inside join it, so with
+ * replicas enabled both come from the same connection and server: the body is
+ * never older than the tag it is sent or confirmed with, which separate
+ * transactions on differently lagging replicas could not guarantee.
+ */
+@Component
+public class ConsistentReads {
+
+    @Transactional(readOnly = true)
+    public <T> T read(Supplier<T> reads) {
+        return reads.get();
+    }
+}
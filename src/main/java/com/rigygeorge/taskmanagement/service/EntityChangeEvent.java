@@ -0,0 +1,47 @@
+package com.rigygeorge.taskmanagement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * A committed write, as broadcast to the other application instances over
+ * PostgreSQL NOTIFY. Encoded as a short comma-separated payload.
+ */
+@Getter
+@AllArgsConstructor
+public class EntityChangeEvent {
+
+    public enum EntityType { TASK, PROJECT, COMMENT, USER, TENANT }
+
+    private final EntityType entityType;
+
+    // null when many rows of the type changed at once (bulk writes)
+    private final UUID entityId;
+
+    private final UUID tenantId;
+
+    // Node id of the publishing instance, so it can skip its own events
+    private final String origin;
+
+    public String toPayload() {
+        return String.join(",",
+                entityType.name(),
+                entityId != null ? entityId.toString() : "",
+                tenantId.toString(),
+                origin);
+    }
+
+    public static EntityChangeEvent fromPayload(String payload) {
+        String[] parts = payload.split(",", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed entity change payload: " + payload);
+        }
+        return new EntityChangeEvent(
+                EntityType.valueOf(parts[0]),
+                parts[1].isEmpty() ? null : UUID.fromString(parts[1]),
+                UUID.fromString(parts[2]),
+                parts[3]);
+    }
+}
@@ -0,0 +1,43 @@
+package com.rigygeorge.taskmanagement.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Tells the other instances about a write so they can drop their cached
+ * copies (see {@link EntityChangeSubscriber}). Runs pg_notify on the caller's
+ * connection, so inside a transaction the notification is only delivered on
+ * commit and never for a rollback. The local instance evicts on its own.
+ */
+@Component
+public class EntityChangePublisher {
+
+    static final String CHANNEL = "entity_changes";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    // Identifies this instance in published payloads
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public EntityChangePublisher(JdbcTemplate jdbcTemplate,
+                                 @Value("${cache.invalidation.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public void publish(EntityChangeEvent.EntityType entityType, UUID entityId, UUID tenantId) {
+        if (!enabled) {
+            return;
+        }
+        String payload = new EntityChangeEvent(entityType, entityId, tenantId, nodeId).toPayload();
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, CHANNEL, payload);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,216 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
+import com.rigygeorge.taskmanagement.entity.Project;
+import com.rigygeorge.taskmanagement.entity.Tenant;
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.security.PrincipalCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Listens for {@link EntityChangePublisher} notifications from the other
+ * instances on a dedicated connection, outside the pool, and evicts the
+ * matching local cache entries: list response generations, second-level
+ * cache entries, principals and display names. Task and comment changes are
+ * also passed on to this instance's SSE subscribers. Notifications sent while the
+ * connection is down are lost, so every (re)connect starts by dropping all
+ * local caches.
+ */
+@Slf4j
+@Component
+public class EntityChangeSubscriber {
+
+    private static final long MIN_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final EntityChangePublisher publisher;
+    private final TenantGenerations tenantGenerations;
+    private final UserDisplayNameCache displayNameCache;
+    private final PrincipalCache principalCache;
+    private final TaskEventHub taskEventHub;
+    private final Cache secondLevelCache;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final boolean enabled;
+    private final int pollMillis;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public EntityChangeSubscriber(EntityChangePublisher publisher,
+                                  TenantGenerations tenantGenerations,
+                                  UserDisplayNameCache displayNameCache,
+                                  PrincipalCache principalCache,
+                                  TaskEventHub taskEventHub,
+                                  EntityManagerFactory entityManagerFactory,
+                                  @Value("${spring.datasource.url}") String url,
+                                  @Value("${spring.datasource.username}") String username,
+                                  @Value("${spring.datasource.password}") String password,
+                                  @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                                  @Value("${cache.invalidation.poll-interval:5s}") Duration pollInterval) {
+        this.publisher = publisher;
+        this.tenantGenerations = tenantGenerations;
+        this.displayNameCache = displayNameCache;
+        this.principalCache = principalCache;
+        this.taskEventHub = taskEventHub;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled;
+        this.pollMillis = (int) pollInterval.toMillis();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listen, "entity-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    private void listen() {
+        long backoff = MIN_BACKOFF_MILLIS;
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + EntityChangePublisher.CHANNEL);
+                }
+                resync();
+                backoff = MIN_BACKOFF_MILLIS;
+
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications != null && notifications.length > 0) {
+                        for (PGNotification notification : notifications) {
+                            try {
+                                handle(notification.getParameter());
+                            } catch (RuntimeException e) {
+                                // One bad notification must not end the listener thread
+                                log.error("Failed to apply entity change notification: {}",
+                                        notification.getParameter(), e);
+                            }
+                        }
+                    } else if (!conn.isValid(pollMillis / 1000 + 1)) {
+                        // A quiet channel looks the same as a dead socket; probe it
+                        throw new SQLException("Listener connection is no longer valid");
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Entity change listener disconnected, reconnecting in {} ms", backoff, e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    void handle(String payload) {
+        EntityChangeEvent event;
+        try {
+            event = EntityChangeEvent.fromPayload(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed entity change notification: {}", payload);
+            return;
+        }
+        if (publisher.getNodeId().equals(event.getOrigin())) {
+            return;
+        }
+        apply(event);
+    }
+
+    void apply(EntityChangeEvent event) {
+        switch (event.getEntityType()) {
+            case TASK, COMMENT -> {
+                tenantGenerations.bump(event.getTenantId());
+                // The payload carries no task data; stream clients on this instance refetch
+                taskEventHub.publish(event.getTenantId(), TaskStreamEvent.of(TaskStreamEvent.Type.TASKS_CHANGED));
+            }
+            case PROJECT -> {
+                tenantGenerations.bump(event.getTenantId());
+                evictEntity(Project.class, event);
+                secondLevelCache.evictDefaultQueryRegion();
+            }
+            case USER -> {
+                evictEntity(User.class, event);
+                secondLevelCache.evictDefaultQueryRegion();
+                if (event.getEntityId() != null) {
+                    principalCache.evict(event.getEntityId());
+                    displayNameCache.evict(event.getTenantId(), event.getEntityId());
+                } else {
+                    principalCache.evictAll();
+                    displayNameCache.evictAll();
+                }
+            }
+            case TENANT -> evictEntity(Tenant.class, event);
+        }
+    }
+
+    // Notifications may have been missed; nothing cached locally can be trusted
+    private void resync() {
+        tenantGenerations.bumpAll();
+        principalCache.evictAll();
+        displayNameCache.evictAll();
+        secondLevelCache.evictAllRegions();
+    }
+
+    private void evictEntity(Class<?> entityClass, EntityChangeEvent event) {
+        if (event.getEntityId() != null) {
+            secondLevelCache.evictEntityData(entityClass, event.getEntityId());
+        } else {
+            secondLevelCache.evictEntityData(entityClass);
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // Shutting down anyway
+        }
+    }
+}
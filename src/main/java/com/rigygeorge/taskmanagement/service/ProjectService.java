@@ -1,9 +1,14 @@
 package com.rigygeorge.taskmanagement.service;
 
 import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.CursorPage;
+import com.rigygeorge.taskmanagement.dto.EntityTags;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
+import com.rigygeorge.taskmanagement.dto.PageCursor;
 import com.rigygeorge.taskmanagement.dto.ProjectResponse;
 import com.rigygeorge.taskmanagement.dto.UpdateProjectRequest;
 import com.rigygeorge.taskmanagement.entity.Project;
+import com.rigygeorge.taskmanagement.exception.PreconditionFailedException;
 import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
 import com.rigygeorge.taskmanagement.repository.ProjectRepository;
 import com.rigygeorge.taskmanagement.security.CustomUserDetails;
@@ -12,15 +17,21 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
     
+    private static final String SORT_KEY = "CREATED_AT:DESC";
+    
     private final ProjectRepository projectRepository;
+    private final TenantGenerations tenantGenerations;
+    private final ResponseCache responseCache;
+    private final EntityChangePublisher entityChangePublisher;
     
     private CustomUserDetails getCurrentUser() {
         return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -37,19 +48,45 @@ public class ProjectService {
         project.setCreatedBy(currentUser.getId());
         
         project = projectRepository.save(project);
+        tenantGenerations.bump(currentUser.getTenantId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.PROJECT, project.getId(), currentUser.getTenantId());
         
         return mapToResponse(project);
     }
     
-    public List<ProjectResponse> getAllProjects() {
-        CustomUserDetails currentUser = getCurrentUser();
+    // Repeated polls within one tenant generation are answered from the response cache.
+    // fields (null for all) limits the columns read; id and createdAt are always
+    // read because the cursor is built from them.
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponse> getAllProjects(String cursor, int limit, FieldSelection fields) {
+        UUID tenantId = getCurrentUser().getTenantId();
+        return responseCache.get(tenantId, "projects", Arrays.asList(cursor, limit, fields),
+                () -> loadPage(tenantId, cursor, limit, fields), ProjectService::weigh);
+    }
+    
+    private CursorPage<ProjectResponse> loadPage(UUID tenantId, String cursor, int limit, FieldSelection fields) {
+        int pageSize = PageCursor.clampLimit(limit);
+        
+        PageCursor after = null;
+        if (cursor != null) {
+            after = PageCursor.decode(cursor);
+            after.requireSortKey(SORT_KEY);
+        }
+        
+        List<ProjectResponse> projects = projectRepository.findResponses(tenantId, after, pageSize + 1,
+                fields != null ? fields.withRequired("id", "createdAt") : null);
+        
+        String nextCursor = null;
+        if (projects.size() > pageSize) {
+            projects = projects.subList(0, pageSize);
+            ProjectResponse last = projects.get(pageSize - 1);
+            nextCursor = new PageCursor(SORT_KEY, last.getCreatedAt().toString(), last.getId()).encode();
+        }
         
-        return projectRepository.findByTenantId(currentUser.getTenantId())
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return new CursorPage<>(projects, nextCursor);
     }
     
+    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(UUID id) {
         CustomUserDetails currentUser = getCurrentUser();
         
@@ -64,17 +101,20 @@ public class ProjectService {
         return mapToResponse(project);
     }
     
+    // Version of the project for conditional GETs. A query rather than findById:
+    // it flushes a project created earlier in the same transaction, whose
+    // updatedAt is only generated on insert.
+    @Transactional(readOnly = true)
+    public Instant getProjectVersion(UUID id) {
+        return projectRepository.findUpdatedAt(id, getCurrentUser().getTenantId())
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+    }
+    
+    // ifMatch is the request's If-Match header, or null for an unconditional update
     @Transactional
-    public ProjectResponse updateProject(UUID id, UpdateProjectRequest request) {
+    public ProjectResponse updateProject(UUID id, UpdateProjectRequest request, String ifMatch) {
         CustomUserDetails currentUser = getCurrentUser();
-        
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
-        
-        // Ensure project belongs to user's tenant
-        if (!project.getTenantId().equals(currentUser.getTenantId())) {
-            throw new ResourceNotFoundException("Project not found with id: " + id);
-        }
+        Project project = findForWrite(id, currentUser.getTenantId(), ifMatch);
         
         if (request.getName() != null) {
             project.setName(request.getName());
@@ -84,23 +124,51 @@ public class ProjectService {
         }
         
         project = projectRepository.save(project);
+        // updatedAt is only generated on flush, and the response and its ETag need it
+        projectRepository.flush();
+        tenantGenerations.bump(currentUser.getTenantId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.PROJECT, project.getId(), currentUser.getTenantId());
         
         return mapToResponse(project);
     }
     
     @Transactional
-    public void deleteProject(UUID id) {
+    public void deleteProject(UUID id, String ifMatch) {
         CustomUserDetails currentUser = getCurrentUser();
+        Project project = findForWrite(id, currentUser.getTenantId(), ifMatch);
         
-        Project project = projectRepository.findById(id)
+        projectRepository.delete(project);
+        tenantGenerations.bump(currentUser.getTenantId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.PROJECT, id, currentUser.getTenantId());
+    }
+    
+    // With If-Match the row is locked before the check, so no other write can
+    // land between the check and this one
+    private Project findForWrite(UUID id, UUID tenantId, String ifMatch) {
+        Project project = (ifMatch != null ? projectRepository.findByIdForUpdate(id) : projectRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         
         // Ensure project belongs to user's tenant
-        if (!project.getTenantId().equals(currentUser.getTenantId())) {
+        if (!project.getTenantId().equals(tenantId)) {
             throw new ResourceNotFoundException("Project not found with id: " + id);
         }
-        
-        projectRepository.delete(project);
+        if (ifMatch != null && !EntityTags.matchesStrong(ifMatch, EntityTags.of(project.getUpdatedAt()))) {
+            throw new PreconditionFailedException("Project has been modified since it was read");
+        }
+        return project;
+    }
+    
+    // Rough heap size of a cached page: fixed per-row overhead plus string contents
+    private static int weigh(CursorPage<ProjectResponse> page) {
+        int weight = 64;
+        for (ProjectResponse project : page.getItems()) {
+            weight += 240 + 2 * (length(project.getName()) + length(project.getDescription()));
+        }
+        return weight;
+    }
+    
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
     }
     
     private ProjectResponse mapToResponse(Project project) {
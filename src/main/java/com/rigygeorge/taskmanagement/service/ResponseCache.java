@@ -0,0 +1,72 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rigygeorge.taskmanagement.dto.CacheRegionStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Results of list reads, keyed by tenant, the tenant's current generation
+ * (see {@link TenantGenerations}), endpoint and parameters. A write moves the
+ * tenant to a new generation, so its old entries are never hit again and
+ * age out through size-based eviction. Memory is capped by the estimated
+ * weight of the cached results; the TTL bounds how long a write made on
+ * another instance can go unnoticed here.
+ */
+@Component
+public class ResponseCache {
+
+    private final TenantGenerations tenantGenerations;
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+
+    public ResponseCache(TenantGenerations tenantGenerations,
+                         @Value("${response-cache.enabled:true}") boolean enabled,
+                         @Value("${response-cache.max-weight:64MB}") DataSize maxWeight,
+                         @Value("${response-cache.ttl:30s}") Duration ttl) {
+        this.tenantGenerations = tenantGenerations;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight.toBytes())
+                .weigher((Key key, Entry entry) -> entry.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Params must have value equality and may contain nulls (use Arrays.asList). Concurrent
+    // misses for the same key wait for a single load; a failed load is not cached.
+    @SuppressWarnings("unchecked")
+    public <T> T get(UUID tenantId, String endpoint, List<?> params,
+                     Supplier<T> loader, ToIntFunction<T> weigher) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(tenantId, tenantGenerations.current(tenantId), endpoint, params);
+        return (T) cache.get(key, k -> {
+            T value = loader.get();
+            return new Entry(value, weigher.applyAsInt(value));
+        }).value();
+    }
+
+    public CacheRegionStats stats() {
+        CacheStats stats = cache.stats();
+        return new CacheRegionStats("response-cache", stats.hitCount(), stats.missCount(),
+                stats.loadSuccessCount(), cache.estimatedSize());
+    }
+
+    private record Key(UUID tenantId, long generation, String endpoint, List<?> params) {
+    }
+
+    private record Entry(Object value, int weight) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.CommentResponse;
+import com.rigygeorge.taskmanagement.dto.EntityTags;
+import com.rigygeorge.taskmanagement.dto.ProjectResponse;
+import com.rigygeorge.taskmanagement.dto.SyncResponse;
+import com.rigygeorge.taskmanagement.dto.SyncTombstone;
+import com.rigygeorge.taskmanagement.dto.SyncToken;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Comment;
+import com.rigygeorge.taskmanagement.entity.Project;
+import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.exception.BadRequestException;
+import com.rigygeorge.taskmanagement.exception.GoneException;
+import com.rigygeorge.taskmanagement.repository.ChangeLogRepository;
+import com.rigygeorge.taskmanagement.repository.CommentRepository;
+import com.rigygeorge.taskmanagement.repository.ProjectRepository;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CommentRepository commentRepository;
+    private final UserDisplayNameCache userDisplayNameCache;
+
+    private CustomUserDetails getCurrentUser() {
+        return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    // Returns what changed after the token (everything when since is null), at most
+    // limit entities. One snapshot serves the change log and the entity reads, so
+    // every entity is returned exactly as of its recorded change. A token that
+    // tombstones were purged past (see ChangeLogRetention) is refused with 410.
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncResponse sync(String since, int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("limit must be at least 1");
+        }
+        UUID tenantId = getCurrentUser().getTenantId();
+        long purgedSeq = changeLogRepository.findPurgedSeq(tenantId);
+        // A sync from scratch needs none of the tombstones purged before it started
+        SyncToken token = since != null ? SyncToken.decode(since) : new SyncToken(0, purgedSeq);
+        if (purgedSeq > Math.max(token.getSeq(), token.getHorizon())) {
+            throw new GoneException("Sync token has expired; a full resync is required");
+        }
+        long afterSeq = token.getSeq();
+        int pageSize = Math.min(limit, MAX_LIMIT);
+
+        List<ChangeLogRepository.Entry> changes = changeLogRepository.findAfter(tenantId, afterSeq, pageSize + 1);
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+        long lastSeq = changes.isEmpty() ? afterSeq : changes.get(changes.size() - 1).seq();
+
+        List<SyncTombstone> deleted = new ArrayList<>();
+        Map<SyncTombstone.EntityType, List<UUID>> changedIds = new EnumMap<>(SyncTombstone.EntityType.class);
+        for (ChangeLogRepository.Entry change : changes) {
+            if (change.deleted()) {
+                deleted.add(new SyncTombstone(change.type(), change.entityId(), change.changedAt()));
+            } else {
+                changedIds.computeIfAbsent(change.type(), type -> new ArrayList<>()).add(change.entityId());
+            }
+        }
+
+        return new SyncResponse(
+            loadTasks(tenantId, changedIds.getOrDefault(SyncTombstone.EntityType.TASK, List.of())),
+            loadProjects(tenantId, changedIds.getOrDefault(SyncTombstone.EntityType.PROJECT, List.of())),
+            loadComments(tenantId, changedIds.getOrDefault(SyncTombstone.EntityType.COMMENT, List.of())),
+            deleted,
+            new SyncToken(lastSeq, token.getHorizon()).encode(),
+            hasMore
+        );
+    }
+
+    // ETag of every tenant-scoped collection: it changes with the tenant's change
+    // sequence, so checking it costs one primary-key lookup and no entity reads
+    @Transactional(readOnly = true)
+    public String getCollectionETag() {
+        CustomUserDetails currentUser = getCurrentUser();
+        long lastSeq = changeLogRepository.findLastSeq(currentUser.getTenantId());
+        return EntityTags.ofCollection(lastSeq, currentUser.getTenantId(), currentUser.getId());
+    }
+
+    // Each loader keeps the change order and batches its reads into one findAllById
+    private List<TaskResponse> loadTasks(UUID tenantId, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Task> tasks = new HashMap<>();
+        for (Task task : taskRepository.findAllById(ids)) {
+            if (task.getTenantId().equals(tenantId)) {
+                tasks.put(task.getId(), task);
+            }
+        }
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (UUID id : ids) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                responses.add(mapToResponse(task));
+            }
+        }
+        return responses;
+    }
+
+    private List<ProjectResponse> loadProjects(UUID tenantId, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Project> projects = new HashMap<>();
+        for (Project project : projectRepository.findAllById(ids)) {
+            if (project.getTenantId().equals(tenantId)) {
+                projects.put(project.getId(), project);
+            }
+        }
+        List<ProjectResponse> responses = new ArrayList<>(projects.size());
+        for (UUID id : ids) {
+            Project project = projects.get(id);
+            if (project != null) {
+                responses.add(mapToResponse(project));
+            }
+        }
+        return responses;
+    }
+
+    private List<CommentResponse> loadComments(UUID tenantId, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Comment> comments = new HashMap<>();
+        for (Comment comment : commentRepository.findAllById(ids)) {
+            if (comment.getTenantId().equals(tenantId)) {
+                comments.put(comment.getId(), comment);
+            }
+        }
+        Set<UUID> authorIds = comments.values().stream().map(Comment::getUserId).collect(Collectors.toSet());
+        Map<UUID, UserDisplayNameCache.DisplayName> authors = userDisplayNameCache.getAll(tenantId, authorIds);
+
+        List<CommentResponse> responses = new ArrayList<>(comments.size());
+        for (UUID id : ids) {
+            Comment comment = comments.get(id);
+            if (comment != null) {
+                UserDisplayNameCache.DisplayName author = authors.get(comment.getUserId());
+                responses.add(new CommentResponse(
+                    comment.getId(),
+                    comment.getTaskId(),
+                    comment.getUserId(),
+                    author != null ? author.getEmail() : "Unknown",
+                    author != null ? author.getName() : "Unknown",
+                    comment.getContent(),
+                    comment.getCreatedAt(),
+                    comment.getUpdatedAt()
+                ));
+            }
+        }
+        return responses;
+    }
+
+    private TaskResponse mapToResponse(Task task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getProjectId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getPriority(),
+            task.getAssignedTo(),
+            task.getCreatedBy(),
+            task.getDueDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
+    }
+
+    private ProjectResponse mapToResponse(Project project) {
+        return new ProjectResponse(
+            project.getId(),
+            project.getName(),
+            project.getDescription(),
+            project.getCreatedBy(),
+            project.getCreatedAt(),
+            project.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,220 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.BulkCreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.BulkTaskResponse;
+import com.rigygeorge.taskmanagement.dto.BulkTaskResult;
+import com.rigygeorge.taskmanagement.dto.BulkUpdateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.BulkUpdateTaskResponse;
+import com.rigygeorge.taskmanagement.dto.CreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.TaskChanges;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
+import com.rigygeorge.taskmanagement.entity.Project;
+import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.exception.BadRequestException;
+import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
+import com.rigygeorge.taskmanagement.repository.ProjectRepository;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.repository.TaskSpecifications;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskBulkService {
+
+    // Rows locked per UPDATE statement/transaction during bulk updates
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TenantGenerations tenantGenerations;
+    private final EntityChangePublisher entityChangePublisher;
+    private final TaskEventHub taskEventHub;
+
+    private CustomUserDetails getCurrentUser() {
+        return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    // Creates every valid item in one transaction. Project ownership is checked
+    // with a single query over the distinct project ids, and the inserts go out
+    // as JDBC batches (see spring.jpa.properties.hibernate.jdbc in application.yml).
+    // Invalid items are reported in the result and do not stop the others.
+    @Transactional
+    public BulkTaskResponse createTasks(BulkCreateTaskRequest request) {
+        CustomUserDetails currentUser = getCurrentUser();
+        List<CreateTaskRequest> items = request.getTasks();
+
+        Set<UUID> requestedProjectIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(CreateTaskRequest::getProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<UUID> tenantProjectIds = new HashSet<>();
+        for (Project project : projectRepository.findAllById(requestedProjectIds)) {
+            if (project.getTenantId().equals(currentUser.getTenantId())) {
+                tenantProjectIds.add(project.getId());
+            }
+        }
+
+        BulkTaskResult[] results = new BulkTaskResult[items.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            CreateTaskRequest item = items.get(i);
+            String error = validate(item, tenantProjectIds);
+            if (error != null) {
+                results[i] = BulkTaskResult.failed(i, error);
+                continue;
+            }
+
+            Task task = new Task();
+            task.setTenantId(currentUser.getTenantId());
+            task.setProjectId(item.getProjectId());
+            task.setTitle(item.getTitle());
+            task.setDescription(item.getDescription());
+            task.setStatus(item.getStatus() != null ? item.getStatus() : Task.TaskStatus.TODO);
+            task.setPriority(item.getPriority() != null ? item.getPriority() : Task.TaskPriority.MEDIUM);
+            task.setAssignedTo(item.getAssignedTo());
+            task.setDueDate(item.getDueDate());
+            task.setCreatedBy(currentUser.getId());
+            tasks.add(task);
+            taskIndexes.add(i);
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        tenantGenerations.bump(currentUser.getTenantId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.TASK, null, currentUser.getTenantId());
+        taskEventHub.publish(currentUser.getTenantId(), TaskStreamEvent.of(TaskStreamEvent.Type.TASKS_CHANGED));
+
+        for (int j = 0; j < saved.size(); j++) {
+            int index = taskIndexes.get(j);
+            results[index] = BulkTaskResult.succeeded(index, mapToResponse(saved.get(j)));
+        }
+
+        return new BulkTaskResponse(saved.size(), items.size() - saved.size(), List.of(results));
+    }
+
+    // Applies the same changes to every selected task with set-based UPDATEs instead
+    // of a load-and-save per task. Large selections are processed in chunks of
+    // UPDATE_CHUNK_SIZE ids, each in its own short transaction, so row locks are
+    // held only for one chunk at a time; a failure leaves earlier chunks applied,
+    // and those are still announced to caches, other nodes and stream clients.
+    public BulkUpdateTaskResponse updateTasks(BulkUpdateTaskRequest request) {
+        CustomUserDetails currentUser = getCurrentUser();
+        UUID tenantId = currentUser.getTenantId();
+        TaskChanges changes = request.getChanges();
+        
+        if ((request.getIds() == null) == (request.getFilter() == null)) {
+            throw new BadRequestException("Specify either ids or filter");
+        }
+        if (changes.isEmpty()) {
+            throw new BadRequestException("No changes given");
+        }
+        if (changes.getProjectId() != null) {
+            Project project = projectRepository.findById(changes.getProjectId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+            if (!project.getTenantId().equals(tenantId)) {
+                throw new ResourceNotFoundException("Project not found");
+            }
+        }
+        
+        Instant now = Instant.now();
+        long updated = 0;
+        
+        try {
+            if (request.getIds() != null) {
+                List<UUID> ids = List.copyOf(new LinkedHashSet<>(request.getIds()));
+                for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                    List<UUID> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+                    updated += transactionTemplate.execute(status ->
+                            taskRepository.updateByIds(tenantId, chunk, changes, now));
+                }
+                return new BulkUpdateTaskResponse(updated);
+            }
+            
+            // Walk the filter's matches in id order; seeking past the last id of each
+            // chunk keeps this correct even when the update changes which rows match
+            Specification<Task> spec = TaskSpecifications.matching(tenantId, request.getFilter());
+            UUID afterId = null;
+            while (true) {
+                UUID seekFrom = afterId;
+                List<UUID> chunk = transactionTemplate.execute(status -> {
+                    List<UUID> ids = taskRepository.findIdsAfter(spec, seekFrom, UPDATE_CHUNK_SIZE);
+                    if (!ids.isEmpty()) {
+                        taskRepository.updateByIds(tenantId, ids, changes, now);
+                    }
+                    return ids;
+                });
+                updated += chunk.size();
+                if (chunk.size() < UPDATE_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1);
+            }
+            return new BulkUpdateTaskResponse(updated);
+        } finally {
+            if (updated > 0) {
+                announceTaskChanges(tenantId);
+            }
+        }
+    }
+
+    private void announceTaskChanges(UUID tenantId) {
+        tenantGenerations.bump(tenantId);
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.TASK, null, tenantId);
+        taskEventHub.publish(tenantId, TaskStreamEvent.of(TaskStreamEvent.Type.TASKS_CHANGED));
+    }
+
+    // Returns the first problem with an item, or null if it can be created
+    private String validate(CreateTaskRequest item, Set<UUID> tenantProjectIds) {
+        if (item == null) {
+            return "Task is required";
+        }
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (!tenantProjectIds.contains(item.getProjectId())) {
+            return "Project not found";
+        }
+        return null;
+    }
+
+    private TaskResponse mapToResponse(Task task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getProjectId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getPriority(),
+            task.getAssignedTo(),
+            task.getCreatedBy(),
+            task.getDueDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
+    }
+}
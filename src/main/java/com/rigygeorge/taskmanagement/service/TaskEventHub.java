@@ -0,0 +1,341 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process fan-out of task and comment changes to SSE subscribers of the
+ * same tenant. Publishers only ever do a non-blocking offer: each subscriber
+ * has a bounded queue, and when a slow client lets it fill up the backlog is
+ * dropped and the client is told to resync. Sends happen on a small
+ * dispatcher pool, so a stalled socket never blocks a request thread.
+ *
+ * <p>The last events of each tenant are kept for Last-Event-ID resume.
+ * Event ids are {@code <epoch>-<sequence>}, where the epoch is random per
+ * instance start. A resume against another instance, or past what is still
+ * buffered, gets a RESYNC event instead of a partial replay.
+ */
+@Service
+public class TaskEventHub {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final int queueCapacity;
+    private final int replaySize;
+    private final Duration timeout;
+
+    private final Map<UUID, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final Cache<UUID, ReplayBuffer> replayBuffers;
+
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    public TaskEventHub(@Value("${tasks.stream.queue-capacity:256}") int queueCapacity,
+                        @Value("${tasks.stream.replay-size:512}") int replaySize,
+                        @Value("${tasks.stream.timeout:30m}") Duration timeout,
+                        @Value("${tasks.stream.heartbeat:15s}") Duration heartbeatInterval,
+                        @Value("${tasks.stream.dispatch-threads:4}") int dispatchThreads) {
+        this.queueCapacity = queueCapacity;
+        this.replaySize = replaySize;
+        this.timeout = timeout;
+        this.replayBuffers = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(15))
+                .maximumSize(100_000)
+                .build();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private CustomUserDetails getCurrentUser() {
+        return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    public SseEmitter subscribe(UUID projectId, UUID assigneeId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        subscribe(getCurrentUser().getTenantId(), projectId, assigneeId, lastEventId, emitter);
+        return emitter;
+    }
+
+    void subscribe(UUID tenantId, UUID projectId, UUID assigneeId, String lastEventId, SseEmitter emitter) {
+        Subscription subscription = new Subscription(tenantId, projectId, assigneeId, emitter);
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> {
+            remove(subscription);
+            emitter.complete();
+        });
+        emitter.onError(error -> remove(subscription));
+
+        // Replay and registration happen under the buffer lock, so no event can
+        // fall between them or overtake the replayed ones
+        ReplayBuffer buffer = replayBuffer(tenantId);
+        buffer.lock.lock();
+        try {
+            if (lastEventId != null) {
+                List<Envelope> missed = buffer.after(parseSequence(lastEventId));
+                if (missed == null) {
+                    subscription.overflowed.set(true);
+                } else {
+                    missed.stream().filter(subscription::matches).forEach(subscription::offer);
+                }
+            }
+            subscribers.computeIfAbsent(tenantId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        } finally {
+            buffer.lock.unlock();
+        }
+        subscription.schedule();
+    }
+
+    // Delivered after commit when called inside a transaction, so rolled-back
+    // writes are never announced
+    public void publish(UUID tenantId, TaskStreamEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(tenantId, event);
+                }
+            });
+        } else {
+            deliver(tenantId, event);
+        }
+    }
+
+    private void deliver(UUID tenantId, TaskStreamEvent event) {
+        ReplayBuffer buffer = replayBuffer(tenantId);
+        buffer.lock.lock();
+        try {
+            long seq = sequence.incrementAndGet();
+            Set<DataWithMediaType> frame = SseEmitter.event()
+                    .id(epoch + "-" + seq)
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON)
+                    .build();
+            Envelope envelope = new Envelope(seq, event, frame);
+            buffer.add(envelope);
+
+            Set<Subscription> tenantSubscribers = subscribers.get(tenantId);
+            if (tenantSubscribers != null) {
+                for (Subscription subscription : tenantSubscribers) {
+                    if (subscription.matches(envelope)) {
+                        subscription.offer(envelope);
+                        subscription.schedule();
+                    }
+                }
+            }
+        } finally {
+            buffer.lock.unlock();
+        }
+    }
+
+    private ReplayBuffer replayBuffer(UUID tenantId) {
+        // A new buffer cannot vouch for anything published before it existed
+        return replayBuffers.get(tenantId, id -> new ReplayBuffer(replaySize, sequence.get()));
+    }
+
+    // -1 when the id was not issued by this instance run, which forces a resync
+    private long parseSequence(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash <= 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        Set<Subscription> tenantSubscribers = subscribers.get(subscription.tenantId);
+        if (tenantSubscribers != null) {
+            tenantSubscribers.remove(subscription);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscription> tenantSubscribers : subscribers.values()) {
+            for (Subscription subscription : tenantSubscribers) {
+                if (subscription.queue.isEmpty()) {
+                    subscription.queue.offer(HEARTBEAT);
+                    subscription.schedule();
+                }
+            }
+        }
+    }
+
+    int subscriberCount(UUID tenantId) {
+        Set<Subscription> tenantSubscribers = subscribers.get(tenantId);
+        return tenantSubscribers != null ? tenantSubscribers.size() : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(tenantSubscribers ->
+                tenantSubscribers.forEach(subscription -> subscription.emitter.complete()));
+    }
+
+    private record Envelope(long seq, TaskStreamEvent event, Set<DataWithMediaType> frame) {
+    }
+
+    /**
+     * The most recent events of one tenant. Guarded by its own lock, not a
+     * monitor, so virtual threads waiting on a busy tenant are not pinned.
+     */
+    private static class ReplayBuffer {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final ArrayDeque<Envelope> events = new ArrayDeque<>();
+
+        // Highest sequence this buffer can no longer replay
+        private long forgottenUpTo;
+
+        ReplayBuffer(int capacity, long forgottenUpTo) {
+            this.capacity = capacity;
+            this.forgottenUpTo = forgottenUpTo;
+        }
+
+        void add(Envelope envelope) {
+            if (events.size() == capacity) {
+                forgottenUpTo = events.removeFirst().seq();
+            }
+            events.addLast(envelope);
+        }
+
+        // Events after the given sequence, or null when some of them are no longer held
+        List<Envelope> after(long seq) {
+            if (seq < forgottenUpTo) {
+                return null;
+            }
+            List<Envelope> missed = new ArrayList<>();
+            for (Envelope envelope : events) {
+                if (envelope.seq() > seq) {
+                    missed.add(envelope);
+                }
+            }
+            return missed;
+        }
+    }
+
+    private class Subscription {
+
+        private final UUID tenantId;
+        private final UUID projectId;
+        private final UUID assigneeId;
+        private final SseEmitter emitter;
+
+        private final ArrayBlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Subscription(UUID tenantId, UUID projectId, UUID assigneeId, SseEmitter emitter) {
+            this.tenantId = tenantId;
+            this.projectId = projectId;
+            this.assigneeId = assigneeId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        // Unknown (null) project or assignee on an event counts as a match
+        boolean matches(Envelope envelope) {
+            TaskStreamEvent event = envelope.event();
+            if (projectId != null && event.getProjectId() != null && !projectId.equals(event.getProjectId())) {
+                return false;
+            }
+            return assigneeId == null || event.getAssigneeId() == null || assigneeId.equals(event.getAssigneeId());
+        }
+
+        // Never blocks: a full queue is dropped and replaced by a single RESYNC
+        void offer(Envelope envelope) {
+            if (!queue.offer(envelope.frame())) {
+                queue.clear();
+                overflowed.set(true);
+            }
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // Dispatcher shut down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    if (overflowed.getAndSet(false)) {
+                        emitter.send(SseEmitter.event()
+                                .name(TaskStreamEvent.Type.RESYNC.name())
+                                .data(TaskStreamEvent.of(TaskStreamEvent.Type.RESYNC), MediaType.APPLICATION_JSON));
+                    }
+                    Set<DataWithMediaType> frame = queue.poll();
+                    if (frame == null) {
+                        break;
+                    }
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                remove(this);
+                scheduled.set(false);
+                return;
+            }
+            scheduled.set(false);
+            // Something may have arrived after the last poll but before the flag was cleared
+            if (!queue.isEmpty() || overflowed.get()) {
+                schedule();
+            }
+        }
+    }
+}
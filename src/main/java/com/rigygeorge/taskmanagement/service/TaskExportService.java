@@ -0,0 +1,150 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.TaskExportFormat;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.repository.TaskSpecifications;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    // Rows per round-trip on the server-side cursor; bounds heap use per export
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String[] CSV_HEADER = {
+        "id", "projectId", "title", "description", "status", "priority",
+        "assignedTo", "createdBy", "dueDate", "createdAt", "updatedAt"
+    };
+
+    private final TaskRepository taskRepository;
+    private final JsonMapper jsonMapper;
+
+    private CustomUserDetails getCurrentUser() {
+        return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    // Writes every matching task of the caller's tenant straight to the
+    // output; rows are never collected into a list. The caller owns the stream.
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskFilter filter, TaskExportFormat format, OutputStream out) throws IOException {
+        CustomUserDetails currentUser = getCurrentUser();
+        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt", "id");
+
+        try (Stream<Task> tasks = taskRepository.streamAll(
+                TaskSpecifications.matching(currentUser.getTenantId(), filter), sort, FETCH_SIZE)) {
+            if (format == TaskExportFormat.CSV) {
+                writeCsv(tasks.iterator(), out);
+            } else {
+                writeNdjson(tasks.iterator(), out);
+            }
+        }
+    }
+
+    // Each row goes through the application JsonMapper, so NDJSON lines match
+    // the task JSON of the API, custom serializers and mapper settings included
+    private void writeNdjson(Iterator<Task> tasks, OutputStream out) {
+        ObjectWriter writer = jsonMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                // One object per line; the newline is written explicitly below
+                .withRootValueSeparator((String) null);
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            while (tasks.hasNext()) {
+                writer.writeValue(generator, mapToResponse(tasks.next()));
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<Task> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, CSV_HEADER);
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writeCsvRow(writer, new String[] {
+                toString(task.getId()),
+                toString(task.getProjectId()),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus() != null ? task.getStatus().name() : null,
+                task.getPriority() != null ? task.getPriority().name() : null,
+                toString(task.getAssignedTo()),
+                toString(task.getCreatedBy()),
+                toString(task.getDueDate()),
+                toString(task.getCreatedAt()),
+                toString(task.getUpdatedAt())
+            });
+        }
+        // Flush but do not close: the response stream belongs to the caller
+        writer.flush();
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private TaskResponse mapToResponse(Task task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getProjectId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getPriority(),
+            task.getAssignedTo(),
+            task.getCreatedBy(),
+            task.getDueDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
+    }
+
+    private static String toString(UUID value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static String toString(Instant value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,268 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.CacheRegionStats;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serialized TaskResponse JSON, keyed by task id and updatedAt, kept off-heap
+ * so a large working set adds nothing to the old generation. List endpoints
+ * assemble their response from these fragments and only serialize the tasks
+ * that are missing or have changed.
+ *
+ * <p>Memory is a fixed set of direct ByteBuffer slabs, allocated once and
+ * split into equal blocks; a fragment occupies as many blocks as it needs,
+ * not necessarily adjacent. When blocks run out, fragments are evicted in
+ * CLOCK order (an approximation of LRU): a fragment read since the hand last
+ * passed gets a second chance. Only the index (id, version, block numbers)
+ * lives on the heap. One lock guards everything; reads and writes are short
+ * memory copies. It is a ReentrantLock rather than a monitor, so a virtual
+ * thread waiting for it releases its carrier.
+ */
+@Component
+public class TaskFragmentCache {
+
+    // Direct buffers are int-indexed; slabs stay well below that limit
+    private static final int MAX_SLAB_SIZE = 64 * 1024 * 1024;
+
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final ByteBuffer[] slabs;
+
+    // Free block numbers, used as a stack
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    private final Map<UUID, Fragment> index = new HashMap<>();
+
+    // CLOCK ring: every cached fragment sits in one slot; there can never be
+    // more fragments than blocks
+    private final Fragment[] ring;
+    private final int[] freeSlots;
+    private int freeSlotCount;
+    private int hand;
+
+    // Copy buffer for reads, only used under the lock
+    private final byte[] scratch;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long hits;
+    private long misses;
+    private long puts;
+
+    public TaskFragmentCache(JsonMapper jsonMapper,
+                             @Value("${tasks.fragment-cache.enabled:true}") boolean enabled,
+                             @Value("${tasks.fragment-cache.max-size:64MB}") DataSize maxSize,
+                             @Value("${tasks.fragment-cache.block-size:512B}") DataSize blockSize) {
+        this.jsonMapper = jsonMapper;
+        this.enabled = enabled;
+        this.blockSize = (int) blockSize.toBytes();
+        this.blocksPerSlab = MAX_SLAB_SIZE / this.blockSize;
+        int totalBlocks = enabled ? (int) (maxSize.toBytes() / this.blockSize) : 0;
+
+        int slabCount = (totalBlocks + blocksPerSlab - 1) / blocksPerSlab;
+        this.slabs = new ByteBuffer[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            int blocks = Math.min(blocksPerSlab, totalBlocks - i * blocksPerSlab);
+            slabs[i] = ByteBuffer.allocateDirect(blocks * this.blockSize);
+        }
+
+        this.freeBlocks = new int[totalBlocks];
+        for (int i = 0; i < totalBlocks; i++) {
+            freeBlocks[i] = totalBlocks - 1 - i;
+        }
+        this.freeCount = totalBlocks;
+
+        this.ring = new Fragment[totalBlocks];
+        this.freeSlots = new int[totalBlocks];
+        for (int i = 0; i < totalBlocks; i++) {
+            freeSlots[i] = totalBlocks - 1 - i;
+        }
+        this.freeSlotCount = totalBlocks;
+        this.scratch = new byte[this.blockSize];
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // The tasks as a JSON array, byte for byte what Jackson would write for the list
+    public byte[] render(List<TaskResponse> tasks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + tasks.size() * blockSize);
+        out.write('[');
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            TaskResponse task = tasks.get(i);
+            if (!copyTo(task.getId(), task.getUpdatedAt(), out)) {
+                byte[] json = jsonMapper.writeValueAsBytes(task);
+                out.write(json, 0, json.length);
+                put(task.getId(), task.getUpdatedAt(), json);
+            }
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    // Called from the task write paths. Entries are keyed by updatedAt, so a stale
+    // fragment is never served anyway; this frees its blocks right away.
+    public void evict(UUID taskId) {
+        lock.lock();
+        try {
+            Fragment fragment = index.remove(taskId);
+            if (fragment != null) {
+                release(fragment);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheRegionStats stats() {
+        lock.lock();
+        try {
+            return new CacheRegionStats("task-fragments", hits, misses, puts, index.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Bytes held by cached fragments, counted in whole blocks
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return (long) (freeBlocks.length - freeCount) * blockSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long capacityBytes() {
+        return (long) freeBlocks.length * blockSize;
+    }
+
+    private boolean copyTo(UUID taskId, Instant updatedAt, ByteArrayOutputStream out) {
+        lock.lock();
+        try {
+            Fragment fragment = index.get(taskId);
+            if (fragment == null || !fragment.updatedAt.equals(updatedAt)) {
+                misses++;
+                return false;
+            }
+            hits++;
+            fragment.referenced = true;
+
+            int remaining = fragment.length;
+            for (int block : fragment.blocks) {
+                int length = Math.min(remaining, blockSize);
+                slab(block).get(offset(block), scratch, 0, length);
+                out.write(scratch, 0, length);
+                remaining -= length;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(UUID taskId, Instant updatedAt, byte[] json) {
+        lock.lock();
+        try {
+            int needed = (json.length + blockSize - 1) / blockSize;
+            // Anything over an eighth of the cache would evict too much to be worth it
+            if (updatedAt == null || needed == 0 || needed > freeBlocks.length / 8) {
+                return;
+            }
+
+            Fragment existing = index.remove(taskId);
+            if (existing != null) {
+                release(existing);
+            }
+            while (freeCount < needed) {
+                evictNext();
+            }
+
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                int block = freeBlocks[--freeCount];
+                int start = i * blockSize;
+                slab(block).put(offset(block), json, start, Math.min(blockSize, json.length - start));
+                blocks[i] = block;
+            }
+
+            Fragment fragment = new Fragment(taskId, updatedAt, json.length, blocks, freeSlots[--freeSlotCount]);
+            ring[fragment.slot] = fragment;
+            index.put(taskId, fragment);
+            puts++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Advances the hand to the first fragment not read since the last pass and evicts it
+    private void evictNext() {
+        while (true) {
+            Fragment fragment = ring[hand];
+            hand = (hand + 1) % ring.length;
+            if (fragment == null) {
+                continue;
+            }
+            if (fragment.referenced) {
+                fragment.referenced = false;
+                continue;
+            }
+            index.remove(fragment.taskId);
+            release(fragment);
+            return;
+        }
+    }
+
+    private void release(Fragment fragment) {
+        for (int block : fragment.blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+        ring[fragment.slot] = null;
+        freeSlots[freeSlotCount++] = fragment.slot;
+    }
+
+    private ByteBuffer slab(int block) {
+        return slabs[block / blocksPerSlab];
+    }
+
+    private int offset(int block) {
+        return (block % blocksPerSlab) * blockSize;
+    }
+
+    private static final class Fragment {
+        private final UUID taskId;
+        private final Instant updatedAt;
+        private final int length;
+        private final int[] blocks;
+        private final int slot;
+        private boolean referenced;
+
+        Fragment(UUID taskId, Instant updatedAt, int length, int[] blocks, int slot) {
+            this.taskId = taskId;
+            this.updatedAt = updatedAt;
+            this.length = length;
+            this.blocks = blocks;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.JsonPage;
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Project;
+import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
+import com.rigygeorge.taskmanagement.repository.ProjectRepository;
+import com.rigygeorge.taskmanagement.repository.TaskJsonRepository;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.repository.TaskSpecifications;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Optional rendering path for the heaviest task lists (GET /api/tasks and
+ * /api/tasks/project/{projectId}): the page is selected with the same
+ * specification, sort and cursor as TaskService, reading only id and the sort
+ * column, and PostgreSQL then renders the page's rows as the JSON array that
+ * goes out. Off unless tasks.list.db-json is set.
+ */
+@Service
+public class TaskJsonService {
+
+    private final TaskRepository taskRepository;
+    private final TaskJsonRepository taskJsonRepository;
+    private final ProjectRepository projectRepository;
+    private final ResponseCache responseCache;
+    private final boolean enabled;
+
+    public TaskJsonService(TaskRepository taskRepository,
+                           TaskJsonRepository taskJsonRepository,
+                           ProjectRepository projectRepository,
+                           ResponseCache responseCache,
+                           @Value("${tasks.list.db-json:false}") boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.taskJsonRepository = taskJsonRepository;
+        this.projectRepository = projectRepository;
+        this.responseCache = responseCache;
+        this.enabled = enabled;
+    }
+
+    private CustomUserDetails getCurrentUser() {
+        return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Transactional(readOnly = true)
+    public JsonPage getAllTasks(TaskFilter filter, String cursor, int limit) {
+        return findPage(getCurrentUser().getTenantId(), filter, cursor, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public JsonPage getTasksByProject(UUID projectId, String cursor, int limit) {
+        CustomUserDetails currentUser = getCurrentUser();
+
+        // Verify project belongs to user's tenant
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+
+        if (!project.getTenantId().equals(currentUser.getTenantId())) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(projectId);
+        return findPage(currentUser.getTenantId(), filter, cursor, limit);
+    }
+
+    private JsonPage findPage(UUID tenantId, TaskFilter filter, String cursor, int limit) {
+        return responseCache.get(tenantId, "tasks-json", Arrays.asList(filter, cursor, limit),
+                () -> loadPage(tenantId, filter, cursor, limit), page -> 64 + page.getBody().length);
+    }
+
+    // A task changed between the two queries is rendered in its newer state,
+    // one deleted in between is left out; the cursor still comes from the page query
+    private JsonPage loadPage(UUID tenantId, TaskFilter filter, String cursor, int limit) {
+        int pageSize = PageCursor.clampLimit(limit);
+        PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
+
+        List<TaskResponse> keys = taskRepository.findResponses(
+                TaskSpecifications.matching(tenantId, filter, after), filter.toSort(), pageSize + 1,
+                Set.of("id", filter.getSortBy().getProperty()));
+
+        String nextCursor = null;
+        if (keys.size() > pageSize) {
+            keys = keys.subList(0, pageSize);
+            TaskResponse last = keys.get(pageSize - 1);
+            nextCursor = new PageCursor(
+                TaskSpecifications.sortKey(filter),
+                TaskSpecifications.cursorValue(last, filter.getSortBy()),
+                last.getId()
+            ).encode();
+        }
+
+        List<UUID> ids = keys.stream().map(TaskResponse::getId).toList();
+        return new JsonPage(taskJsonRepository.renderTasks(tenantId, ids), nextCursor);
+    }
+}
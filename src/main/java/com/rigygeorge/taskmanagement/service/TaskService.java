@@ -1,22 +1,31 @@
 package com.rigygeorge.taskmanagement.service;
 
 import com.rigygeorge.taskmanagement.dto.CreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.CursorPage;
+import com.rigygeorge.taskmanagement.dto.EntityTags;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
 import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
 import com.rigygeorge.taskmanagement.dto.UpdateTaskRequest;
 import com.rigygeorge.taskmanagement.entity.Project;
 import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.exception.PreconditionFailedException;
 import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
 import com.rigygeorge.taskmanagement.repository.ProjectRepository;
 import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.repository.TaskSpecifications;
 import com.rigygeorge.taskmanagement.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +33,11 @@ public class TaskService {
     
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final TenantGenerations tenantGenerations;
+    private final ResponseCache responseCache;
+    private final EntityChangePublisher entityChangePublisher;
+    private final TaskEventHub taskEventHub;
+    private final TaskFragmentCache taskFragmentCache;
     
     private CustomUserDetails getCurrentUser() {
         return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -53,22 +67,22 @@ public class TaskService {
         task.setCreatedBy(currentUser.getId());
         
         task = taskRepository.save(task);
+        tenantGenerations.bump(currentUser.getTenantId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.TASK, task.getId(), currentUser.getTenantId());
         
-        return mapToResponse(task);
+        TaskResponse response = mapToResponse(task);
+        taskEventHub.publish(currentUser.getTenantId(), TaskStreamEvent.task(TaskStreamEvent.Type.TASK_CREATED, response));
+        return response;
     }
     
-    public List<TaskResponse> getAllTasks(Task.TaskStatus status,
-        Task.TaskPriority priority,
-        UUID projectId,
-        UUID assigneeId) {
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getAllTasks(TaskFilter filter, String cursor, int limit, FieldSelection fields) {
         CustomUserDetails currentUser = getCurrentUser();
-        return taskRepository.findByTenantId(currentUser.getTenantId())
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return findPage(currentUser.getTenantId(), filter, cursor, limit, fields);
     }
     
-    public List<TaskResponse> getTasksByProject(UUID projectId) {
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByProject(UUID projectId, String cursor, int limit, FieldSelection fields) {
         CustomUserDetails currentUser = getCurrentUser();
         
         // Verify project belongs to user's tenant
@@ -79,12 +93,12 @@ public class TaskService {
             throw new ResourceNotFoundException("Project not found");
         }
         
-        return taskRepository.findByProjectId(projectId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(projectId);
+        return findPage(currentUser.getTenantId(), filter, cursor, limit, fields);
     }
     
+    @Transactional(readOnly = true)
     public TaskResponse getTaskById(UUID id) {
         CustomUserDetails currentUser = getCurrentUser();
         
@@ -98,42 +112,42 @@ public class TaskService {
         return mapToResponse(task);
     }
     
-    // Add to TaskService class
-
-    public List<TaskResponse> getTasksByStatus(Task.TaskStatus status) {
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByStatus(Task.TaskStatus status, String cursor, int limit, FieldSelection fields) {
         CustomUserDetails currentUser = getCurrentUser();
-        return taskRepository.findByTenantIdAndStatus(currentUser.getTenantId(), status)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status);
+        return findPage(currentUser.getTenantId(), filter, cursor, limit, fields);
     }
 
-    public List<TaskResponse> getTasksByPriority(Task.TaskPriority priority) {
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByPriority(Task.TaskPriority priority, String cursor, int limit, FieldSelection fields) {
         CustomUserDetails currentUser = getCurrentUser();
-        return taskRepository.findByTenantIdAndPriority(currentUser.getTenantId(), priority)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        TaskFilter filter = new TaskFilter();
+        filter.setPriority(priority);
+        return findPage(currentUser.getTenantId(), filter, cursor, limit, fields);
     }
 
-    public List<TaskResponse> getMyTasks() {
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getMyTasks(String cursor, int limit, FieldSelection fields) {
         CustomUserDetails currentUser = getCurrentUser();
-        return taskRepository.findByTenantIdAndAssignedTo(currentUser.getTenantId(), currentUser.getId())
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        TaskFilter filter = new TaskFilter();
+        filter.setAssigneeId(currentUser.getId());
+        return findPage(currentUser.getTenantId(), filter, cursor, limit, fields);
     }
 
+    // Version of the task for conditional GETs, read without loading the entity
+    @Transactional(readOnly = true)
+    public Instant getTaskVersion(UUID id) {
+        return taskRepository.findUpdatedAt(id, getCurrentUser().getTenantId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+    }
+    
+    // ifMatch is the request's If-Match header, or null for an unconditional update
     @Transactional
-    public TaskResponse updateTask(UUID id, UpdateTaskRequest request) {
+    public TaskResponse updateTask(UUID id, UpdateTaskRequest request, String ifMatch) {
         CustomUserDetails currentUser = getCurrentUser();
-        
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-        
-        if (!task.getTenantId().equals(currentUser.getTenantId())) {
-            throw new ResourceNotFoundException("Task not found");
-        }
+        Task task = findForWrite(id, currentUser.getTenantId(), ifMatch);
         
         if (request.getTitle() != null) task.setTitle(request.getTitle());
         if (request.getDescription() != null) task.setDescription(request.getDescription());
@@ -143,22 +157,92 @@ public class TaskService {
         if (request.getDueDate() != null) task.setDueDate(request.getDueDate());
         
         task = taskRepository.save(task);
+        // updatedAt is only generated on flush, and the response and its ETag need it
+        taskRepository.flush();
+        tenantGenerations.bump(currentUser.getTenantId());
+        taskFragmentCache.evict(task.getId());
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.TASK, task.getId(), currentUser.getTenantId());
         
-        return mapToResponse(task);
+        TaskResponse response = mapToResponse(task);
+        taskEventHub.publish(currentUser.getTenantId(), TaskStreamEvent.task(TaskStreamEvent.Type.TASK_UPDATED, response));
+        return response;
     }
     
     @Transactional
-    public void deleteTask(UUID id) {
+    public void deleteTask(UUID id, String ifMatch) {
         CustomUserDetails currentUser = getCurrentUser();
+        Task task = findForWrite(id, currentUser.getTenantId(), ifMatch);
         
-        Task task = taskRepository.findById(id)
+        taskRepository.delete(task);
+        tenantGenerations.bump(currentUser.getTenantId());
+        taskFragmentCache.evict(id);
+        entityChangePublisher.publish(EntityChangeEvent.EntityType.TASK, id, currentUser.getTenantId());
+        taskEventHub.publish(currentUser.getTenantId(),
+                TaskStreamEvent.taskDeleted(id, task.getProjectId(), task.getAssignedTo()));
+    }
+    
+    // With If-Match the row is locked before the check, so no other write can
+    // land between the check and this one
+    private Task findForWrite(UUID id, UUID tenantId, String ifMatch) {
+        Task task = (ifMatch != null ? taskRepository.findByIdForUpdate(id) : taskRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
         
-        if (!task.getTenantId().equals(currentUser.getTenantId())) {
+        if (!task.getTenantId().equals(tenantId)) {
             throw new ResourceNotFoundException("Task not found");
         }
+        if (ifMatch != null && !EntityTags.matchesStrong(ifMatch, EntityTags.of(task.getUpdatedAt()))) {
+            throw new PreconditionFailedException("Task has been modified since it was read");
+        }
+        return task;
+    }
+    
+    // Every task list endpoint ends up here; repeated polls within one tenant
+    // generation are answered from the response cache
+    private CursorPage<TaskResponse> findPage(UUID tenantId, TaskFilter filter, String cursor, int limit,
+                                              FieldSelection fields) {
+        return responseCache.get(tenantId, "tasks", Arrays.asList(filter, cursor, limit, fields),
+                () -> loadPage(tenantId, filter, cursor, limit, fields), TaskService::weigh);
+    }
+    
+    // Fetches one row more than the page size to learn whether another page
+    // exists without issuing a COUNT query. Rows are projected straight into
+    // TaskResponse, so list reads never load managed Task entities. With a
+    // field selection only those columns are read, plus id and the sort
+    // column for the cursor.
+    private CursorPage<TaskResponse> loadPage(UUID tenantId, TaskFilter filter, String cursor, int limit,
+                                              FieldSelection fields) {
+        int pageSize = PageCursor.clampLimit(limit);
+        PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
         
-        taskRepository.delete(task);
+        List<TaskResponse> tasks = taskRepository.findResponses(
+                TaskSpecifications.matching(tenantId, filter, after), filter.toSort(), pageSize + 1,
+                fields != null ? fields.withRequired("id", filter.getSortBy().getProperty()) : null);
+        
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            TaskResponse last = tasks.get(pageSize - 1);
+            nextCursor = new PageCursor(
+                TaskSpecifications.sortKey(filter),
+                TaskSpecifications.cursorValue(last, filter.getSortBy()),
+                last.getId()
+            ).encode();
+        }
+        
+        return new CursorPage<>(tasks, nextCursor);
+    }
+    
+    // Rough heap size of a cached page: fixed per-row overhead plus string contents
+    private static int weigh(CursorPage<TaskResponse> page) {
+        int weight = 64;
+        for (TaskResponse task : page.getItems()) {
+            weight += 320 + 2 * (length(task.getTitle()) + length(task.getDescription()));
+        }
+        return weight;
+    }
+    
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
     }
     
     private TaskResponse mapToResponse(Task task) {
@@ -0,0 +1,67 @@
+package com.rigygeorge.taskmanagement.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Per-tenant change counter. Every write to a tenant's tasks, projects or
+ * comments bumps it, so anything derived from the tenant's data and keyed by
+ * the generation it was read at goes stale by construction. Counters live on
+ * this instance only.
+ */
+@Component
+public class TenantGenerations {
+
+    private final Map<UUID, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final List<Consumer<UUID>> commitListeners = new CopyOnWriteArrayList<>();
+
+    public long current(UUID tenantId) {
+        AtomicLong generation = generations.get(tenantId);
+        return generation != null ? generation.get() : 0;
+    }
+
+    // Told about every committed write to a tenant: after commit for writes made
+    // here, on arrival for change notifications from other instances
+    public void onCommittedWrite(Consumer<UUID> listener) {
+        commitListeners.add(listener);
+    }
+
+    // Bumps now and again after commit: a read that slips in before the commit
+    // can only be cached under the intermediate generation, never the final one
+    public void bump(UUID tenantId) {
+        increment(tenantId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(tenantId);
+                    committed(tenantId);
+                }
+            });
+        } else {
+            committed(tenantId);
+        }
+    }
+
+    // Moves every tenant to a new generation, e.g. after missed change notifications
+    public void bumpAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    private void committed(UUID tenantId) {
+        commitListeners.forEach(listener -> listener.accept(tenantId));
+    }
+
+    private void increment(UUID tenantId) {
+        generations.computeIfAbsent(tenantId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
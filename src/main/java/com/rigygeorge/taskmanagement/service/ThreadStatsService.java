@@ -0,0 +1,39 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.ThreadStatsResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Request threading mode, virtual thread pinning and connection pool
+ * occupancy of this instance.
+ */
+@Service
+public class ThreadStatsService {
+
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final HikariDataSource dataSource;
+
+    public ThreadStatsService(VirtualThreadPinningMonitor pinningMonitor, DataSource dataSource) throws SQLException {
+        this.pinningMonitor = pinningMonitor;
+        this.dataSource = dataSource.unwrap(HikariDataSource.class);
+    }
+
+    public ThreadStatsResponse getStats() {
+        // Null until the pool has started
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return new ThreadStatsResponse(
+                pinningMonitor.isVirtualThreads(),
+                Runtime.version().feature(),
+                pinningMonitor.isMonitoring(),
+                pinningMonitor.pinnedCounts(),
+                dataSource.getMaximumPoolSize(),
+                pool != null ? pool.getActiveConnections() : 0,
+                pool != null ? pool.getIdleConnections() : 0,
+                pool != null ? pool.getThreadsAwaitingConnection() : 0);
+    }
+}
@@ -0,0 +1,31 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.security.PrincipalCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link User} that drops cached copies of a user's name
+ * whenever the entity is updated or deleted. Bulk JPQL updates bypass it,
+ * so they must evict on their own.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    // Looked up lazily: the caches depend on UserRepository, which is built
+    // after Hibernate has resolved its entity listeners
+    private final ObjectProvider<UserDisplayNameCache> displayNameCache;
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    @PostUpdate
+    @PostRemove
+    void userChanged(User user) {
+        displayNameCache.ifAvailable(cache -> cache.evict(user.getTenantId(), user.getId()));
+        principalCache.ifAvailable(cache -> cache.evict(user.getId()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Email and display name of users, keyed by tenant and user, for rendering
+ * authors on read paths. Misses are loaded with one IN query per call, and
+ * users outside the tenant are never returned. Entries are evicted by
+ * {@link UserChangeListener} when a user is updated or deleted.
+ */
+@Component
+public class UserDisplayNameCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Key, DisplayName> cache;
+
+    public UserDisplayNameCache(UserRepository userRepository,
+                                @Value("${users.display-name-cache.ttl:10m}") Duration ttl,
+                                @Value("${users.display-name-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    // Users that do not exist in the tenant are absent from the result
+    public Map<UUID, DisplayName> getAll(UUID tenantId, Collection<UUID> userIds) {
+        Set<Key> keys = userIds.stream()
+                .map(userId -> new Key(tenantId, userId))
+                .collect(Collectors.toSet());
+
+        Map<Key, DisplayName> found = cache.getAll(keys, missing -> {
+            Set<UUID> missingIds = missing.stream().map(Key::userId).collect(Collectors.toSet());
+            Map<Key, DisplayName> loaded = new HashMap<>();
+            for (User user : userRepository.findAllById(missingIds)) {
+                if (user.getTenantId().equals(tenantId)) {
+                    loaded.put(new Key(tenantId, user.getId()), new DisplayName(
+                            user.getEmail(), user.getFirstName() + " " + user.getLastName()));
+                }
+            }
+            return loaded;
+        });
+
+        Map<UUID, DisplayName> result = new HashMap<>();
+        found.forEach((key, name) -> result.put(key.userId(), name));
+        return result;
+    }
+
+    // Evicts now and again after commit, so a concurrent reader cannot re-cache the old name
+    public void evict(UUID tenantId, UUID userId) {
+        Key key = new Key(tenantId, userId);
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private record Key(UUID tenantId, UUID userId) {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DisplayName {
+        private final String email;
+        private final String name;
+    }
+}
@@ -0,0 +1,130 @@
+package com.rigygeorge.taskmanagement.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports virtual threads pinned to their carrier, typically by blocking
+ * inside a synchronized block (in a driver, Hibernate or our own code),
+ * which takes the carrier out of the scheduler for as long as it blocks.
+ * Listens in-process for the JFR jdk.VirtualThreadPinned event: the first
+ * event from a call site is logged with its stack, later ones are counted
+ * per site and logged every {@value #LOG_EVERY} occurrences. Counts are
+ * served by GET /api/admin/thread-stats.
+ *
+ * <p>Only runs with spring.threads.virtual.enabled on Java 21 or later.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOG_EVERY = 100;
+    private static final int LOGGED_FRAMES = 16;
+
+    private final boolean virtualThreadsRequested;
+    private final boolean enabled;
+    private final Duration threshold;
+
+    // Call site (first frame outside the JDK) -> pinning events seen there
+    private final Map<String, AtomicLong> pinnedBySite = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsRequested,
+                                       @Value("${threads.pinning-monitor.enabled:true}") boolean enabled,
+                                       @Value("${threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.virtualThreadsRequested = virtualThreadsRequested;
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    // Spring Boot silently stays on platform threads below Java 21
+    public boolean isVirtualThreads() {
+        return virtualThreadsRequested && Runtime.version().feature() >= 21;
+    }
+
+    public boolean isMonitoring() {
+        return stream != null;
+    }
+
+    @PostConstruct
+    void start() {
+        if (virtualThreadsRequested && !isVirtualThreads()) {
+            log.warn("spring.threads.virtual.enabled is set, but virtual threads need Java 21 or later "
+                    + "(running on {}); requests are handled on platform threads", Runtime.version());
+        }
+        if (!enabled || !isVirtualThreads()) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    // Events per call site, sorted by site
+    public Map<String, Long> pinnedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        pinnedBySite.forEach((site, count) -> counts.put(site, count.get()));
+        return counts;
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = callSite(frames);
+        long count = pinnedBySite.computeIfAbsent(site, key -> new AtomicLong()).incrementAndGet();
+        if (count == 1) {
+            log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, describe(frames));
+        } else if (count % LOG_EVERY == 0) {
+            log.warn("Virtual thread pinned {} times so far at {}", count, site);
+        }
+    }
+
+    // The topmost frame outside the JDK is usually the code that holds the monitor
+    private static String callSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String className = frame.getMethod().getType().getName();
+            if (!className.startsWith("java.") && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                return format(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : format(frames.get(0));
+    }
+
+    private static String describe(List<RecordedFrame> frames) {
+        StringBuilder stack = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            stack.append(System.lineSeparator()).append("\tat ").append(format(frames.get(i)));
+        }
+        return stack.toString();
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
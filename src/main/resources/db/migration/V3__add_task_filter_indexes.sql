@@ -0,0 +1,16 @@
+-- Composite indexes for GET /api/tasks filters.
+-- Every task query is tenant-scoped, so tenant_id leads each index and the
+-- default sort column (created_at, id) trails it so filtered lists can be
+-- read in order without a sort step.
+CREATE INDEX idx_tasks_tenant_created ON tasks(tenant_id, created_at, id);
+CREATE INDEX idx_tasks_tenant_updated ON tasks(tenant_id, updated_at, id);
+CREATE INDEX idx_tasks_tenant_due_date ON tasks(tenant_id, due_date, id);
+CREATE INDEX idx_tasks_tenant_title ON tasks(tenant_id, title, id);
+CREATE INDEX idx_tasks_tenant_status_created ON tasks(tenant_id, status, created_at, id);
+CREATE INDEX idx_tasks_tenant_priority_created ON tasks(tenant_id, priority, created_at, id);
+CREATE INDEX idx_tasks_tenant_project_created ON tasks(tenant_id, project_id, created_at, id);
+CREATE INDEX idx_tasks_tenant_assignee_created ON tasks(tenant_id, assigned_to, created_at, id);
+
+-- Covered by the tenant-leading indexes above
+DROP INDEX idx_tasks_tenant_id;
+DROP INDEX idx_tasks_status;
@@ -0,0 +1,8 @@
+-- Keyset pagination seeks on (created_at, id) within a tenant or task, so
+-- these indexes let every page start with an index range scan.
+CREATE INDEX idx_projects_tenant_created ON projects(tenant_id, created_at, id);
+CREATE INDEX idx_comments_task_created ON comments(task_id, created_at, id);
+
+-- Covered by the indexes above
+DROP INDEX idx_projects_tenant_id;
+DROP INDEX idx_comments_task_id;
@@ -0,0 +1,2 @@
+-- Tokens carry the version they were issued at; bumping it revokes them all
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
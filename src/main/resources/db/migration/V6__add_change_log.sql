@@ -0,0 +1,84 @@
+-- Per-tenant change feed behind GET /api/sync. Statement-level triggers record
+-- every insert, update and delete of tasks, projects and comments, including
+-- bulk UPDATEs and cascaded deletes. change_log keeps one row per entity with
+-- its latest change, so a sync reads only what changed since its token.
+CREATE TABLE tenant_change_seq (
+    tenant_id UUID PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
+
+CREATE TABLE change_log (
+    tenant_id UUID NOT NULL,
+    entity_type VARCHAR(20) NOT NULL, -- TASK, PROJECT, COMMENT
+    entity_id UUID NOT NULL,
+    seq BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL, -- true for tombstones
+    changed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (tenant_id, entity_type, entity_id)
+);
+
+CREATE INDEX idx_change_log_tenant_seq ON change_log(tenant_id, seq);
+
+-- Numbers are taken under the tenant's tenant_change_seq row lock, held until
+-- commit, so sequence order is commit order: a reader can never pass a number
+-- that becomes visible later. Writes within one tenant serialize on that row.
+CREATE FUNCTION record_changes() RETURNS trigger AS $$
+BEGIN
+    WITH counts AS (
+        SELECT tenant_id, count(*) AS n FROM changed_rows GROUP BY tenant_id
+    ), allocated AS (
+        INSERT INTO tenant_change_seq AS s (tenant_id, last_seq)
+        SELECT tenant_id, n FROM counts
+        ON CONFLICT (tenant_id) DO UPDATE SET last_seq = s.last_seq + EXCLUDED.last_seq
+        RETURNING s.tenant_id, s.last_seq
+    ), numbered AS (
+        SELECT tenant_id, id, row_number() OVER (PARTITION BY tenant_id ORDER BY id) AS rn
+        FROM changed_rows
+    )
+    INSERT INTO change_log AS c (tenant_id, entity_type, entity_id, seq, deleted, changed_at)
+    SELECT r.tenant_id, TG_ARGV[0], r.id, a.last_seq - k.n + r.rn, TG_OP = 'DELETE', now()
+    FROM numbered r
+    JOIN counts k ON k.tenant_id = r.tenant_id
+    JOIN allocated a ON a.tenant_id = r.tenant_id
+    ON CONFLICT (tenant_id, entity_type, entity_id) DO UPDATE
+        SET seq = EXCLUDED.seq, deleted = EXCLUDED.deleted, changed_at = EXCLUDED.changed_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables cannot be shared between events, hence one trigger per event
+CREATE TRIGGER tasks_changes_insert AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('TASK');
+CREATE TRIGGER tasks_changes_update AFTER UPDATE ON tasks
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('TASK');
+CREATE TRIGGER tasks_changes_delete AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('TASK');
+
+CREATE TRIGGER projects_changes_insert AFTER INSERT ON projects
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('PROJECT');
+CREATE TRIGGER projects_changes_update AFTER UPDATE ON projects
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('PROJECT');
+CREATE TRIGGER projects_changes_delete AFTER DELETE ON projects
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('PROJECT');
+
+CREATE TRIGGER comments_changes_insert AFTER INSERT ON comments
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('COMMENT');
+CREATE TRIGGER comments_changes_update AFTER UPDATE ON comments
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('COMMENT');
+CREATE TRIGGER comments_changes_delete AFTER DELETE ON comments
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes('COMMENT');
+
+-- Existing rows become the initial state of each tenant's feed
+INSERT INTO change_log (tenant_id, entity_type, entity_id, seq, deleted, changed_at)
+SELECT tenant_id, entity_type, id,
+       row_number() OVER (PARTITION BY tenant_id ORDER BY updated_at, id), false, updated_at
+FROM (
+    SELECT tenant_id, 'PROJECT' AS entity_type, id, updated_at FROM projects
+    UNION ALL
+    SELECT tenant_id, 'TASK', id, updated_at FROM tasks
+    UNION ALL
+    SELECT tenant_id, 'COMMENT', id, updated_at FROM comments
+) existing;
+
+INSERT INTO tenant_change_seq (tenant_id, last_seq)
+SELECT tenant_id, max(seq) FROM change_log GROUP BY tenant_id;
@@ -0,0 +1,13 @@
+-- Formats a timestamp exactly like java.time.Instant#toString (and so like the
+-- JSON the API writes for Instant fields): UTC, with the fraction left out when
+-- zero and otherwise printed as 3 or 6 digits. Used when PostgreSQL renders
+-- task lists as JSON itself (see TaskJsonRepository).
+CREATE FUNCTION iso_instant(ts TIMESTAMPTZ) RETURNS TEXT AS $$
+    SELECT to_char(ts AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS')
+        || CASE
+               WHEN extract(microseconds FROM ts)::BIGINT % 1000000 = 0 THEN ''
+               WHEN extract(microseconds FROM ts)::BIGINT % 1000 = 0 THEN to_char(ts AT TIME ZONE 'UTC', '.MS')
+               ELSE to_char(ts AT TIME ZONE 'UTC', '.US')
+           END
+        || 'Z'
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;
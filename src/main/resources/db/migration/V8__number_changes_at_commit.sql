@@ -0,0 +1,80 @@
+-- V6 numbered changes inside every writing statement, so the tenant's
+-- tenant_change_seq row stayed locked from a transaction's first write until
+-- its commit and all writes of one tenant ran one after the other. The
+-- statement triggers now only stage their rows; they are numbered by a
+-- deferred trigger at commit, which holds the row lock for just the commit
+-- itself. Sequence order is still commit order.
+
+-- Staged changes of in-flight transactions. A row never outlives the
+-- transaction that wrote it (deleted at commit, gone on rollback), so the
+-- table is neither WAL-logged nor replicated.
+CREATE UNLOGGED TABLE change_log_pending (
+    id BIGSERIAL PRIMARY KEY, -- change order within the transaction
+    txid XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    tenant_id UUID NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    deleted BOOLEAN NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    queues_flush BOOLEAN NOT NULL -- set on the first row of each statement
+);
+
+CREATE INDEX idx_change_log_pending_txid ON change_log_pending(txid);
+
+-- Same signature as in V6, so the existing statement triggers now call this
+CREATE OR REPLACE FUNCTION record_changes() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO change_log_pending (tenant_id, entity_type, entity_id, deleted, changed_at, queues_flush)
+    SELECT tenant_id, TG_ARGV[0], id, TG_OP = 'DELETE', now(), row_number() OVER () = 1
+    FROM changed_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Numbers everything the transaction staged. The first queued call does the
+-- work; the others (one per writing statement, so a rolled-back savepoint
+-- cannot take the only one with it) find nothing left.
+CREATE FUNCTION flush_changes() RETURNS trigger AS $$
+BEGIN
+    WITH pending AS (
+        DELETE FROM change_log_pending WHERE txid = pg_current_xact_id()
+        RETURNING id, tenant_id, entity_type, entity_id, deleted, changed_at
+    ), latest AS (
+        -- An entity written more than once keeps its last change
+        SELECT DISTINCT ON (tenant_id, entity_type, entity_id) *
+        FROM pending
+        ORDER BY tenant_id, entity_type, entity_id, id DESC
+    ), counts AS (
+        SELECT tenant_id, count(*) AS n FROM latest GROUP BY tenant_id
+    ), allocated AS (
+        INSERT INTO tenant_change_seq AS s (tenant_id, last_seq)
+        SELECT tenant_id, n FROM counts
+        ON CONFLICT (tenant_id) DO UPDATE SET last_seq = s.last_seq + EXCLUDED.last_seq
+        RETURNING s.tenant_id, s.last_seq
+    ), numbered AS (
+        SELECT l.*, row_number() OVER (PARTITION BY tenant_id ORDER BY id) AS rn
+        FROM latest l
+    )
+    INSERT INTO change_log AS c (tenant_id, entity_type, entity_id, seq, deleted, changed_at)
+    SELECT r.tenant_id, r.entity_type, r.entity_id, a.last_seq - k.n + r.rn, r.deleted, r.changed_at
+    FROM numbered r
+    JOIN counts k ON k.tenant_id = r.tenant_id
+    JOIN allocated a ON a.tenant_id = r.tenant_id
+    ON CONFLICT (tenant_id, entity_type, entity_id) DO UPDATE
+        SET seq = EXCLUDED.seq, deleted = EXCLUDED.deleted, changed_at = EXCLUDED.changed_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Constraint triggers are the only deferrable kind; a transaction that needs
+-- its own changes numbered early runs SET CONSTRAINTS change_log_flush IMMEDIATE
+CREATE CONSTRAINT TRIGGER change_log_flush AFTER INSERT ON change_log_pending
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW WHEN (NEW.queues_flush) EXECUTE FUNCTION flush_changes();
+
+-- Tombstones are kept for a retention window (sync.tombstone-retention) and
+-- then purged. purged_seq is the highest sequence number purged so far: a
+-- sync token below it may have missed a deletion and needs a full resync.
+ALTER TABLE tenant_change_seq ADD COLUMN purged_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_change_log_tombstones ON change_log(changed_at) WHERE deleted;
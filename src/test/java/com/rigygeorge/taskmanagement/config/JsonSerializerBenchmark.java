@@ -0,0 +1,95 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.dto.CommentResponse;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Time and heap allocation per list serialization, Jackson's reflective
+ * bean serializer against the hand-written ones (JsonSerializersConfig), for
+ * a 1,000-task page and a 1,000-comment page.
+ *
+ * <p>Not part of the regular build (the class name does not match the
+ * surefire includes); run it on its own with
+ * {@code mvn test -Dtest=JsonSerializerBenchmark}.
+ */
+class JsonSerializerBenchmark {
+
+    private static final int WARMUP_RUNS = 2_000;
+    private static final int MEASURED_RUNS = 200;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper handWritten = JsonMapper.builder()
+            .addModule(new JsonSerializersConfig().responseSerializersModule())
+            .build();
+
+    @Test
+    void taskPage() {
+        Instant now = Instant.parse("2030-01-02T03:04:05.123456Z");
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            tasks.add(new TaskResponse(UUID.randomUUID(), UUID.randomUUID(), "Task " + i,
+                    "Description of task " + i + ".", Task.TaskStatus.values()[i % 3],
+                    Task.TaskPriority.values()[i % 3], i % 2 == 0 ? UUID.randomUUID() : null, UUID.randomUUID(),
+                    i % 4 == 0 ? now.plusSeconds(i) : null, now.minusSeconds(i), now));
+        }
+        compare("1,000 tasks", tasks);
+    }
+
+    @Test
+    void commentPage() {
+        Instant now = Instant.parse("2030-01-02T03:04:05.123456Z");
+        List<CommentResponse> comments = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            comments.add(new CommentResponse(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    "user" + i + "@example.com", "User " + i, "Comment number " + i, now.minusSeconds(i), now));
+        }
+        compare("1,000 comments", comments);
+    }
+
+    private void compare(String label, List<?> items) {
+        assertEquals(reflective.readTree(reflective.writeValueAsBytes(items)),
+                reflective.readTree(handWritten.writeValueAsBytes(items)));
+
+        Result viaReflection = measure(reflective, items);
+        Result viaHandWritten = measure(handWritten, items);
+        System.out.printf("%s: reflective %,d us, %,d bytes allocated; hand-written %,d us, %,d bytes allocated%n",
+                label, viaReflection.micros, viaReflection.allocated, viaHandWritten.micros, viaHandWritten.allocated);
+    }
+
+    // Median time and allocation of the measured runs, after the JIT has warmed up
+    private static Result measure(JsonMapper mapper, List<?> items) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            mapper.writeValueAsBytes(items);
+        }
+        long[] micros = new long[MEASURED_RUNS];
+        long[] allocated = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            mapper.writeValueAsBytes(items);
+            micros[i] = (System.nanoTime() - start) / 1_000;
+            allocated[i] = THREADS.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        Arrays.sort(micros);
+        Arrays.sort(allocated);
+        return new Result(micros[MEASURED_RUNS / 2], allocated[MEASURED_RUNS / 2]);
+    }
+
+    private record Result(long micros, long allocated) {
+    }
+}
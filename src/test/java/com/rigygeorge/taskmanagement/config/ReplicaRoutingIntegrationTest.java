@@ -0,0 +1,114 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import com.rigygeorge.taskmanagement.service.ConsistentReads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routing with the test database standing in for both the primary and its
+ * replica: the two are told apart by the application_name of the connection.
+ */
+@SpringBootTest(properties = {
+        "replicas.enabled=true",
+        "replicas.urls=${spring.datasource.url}",
+        "replicas.health-check-interval=100ms"
+})
+class ReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA = "taskmanagement-replica-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource router;
+
+    @Autowired
+    private ConsistentReads consistentReads;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        CustomUserDetails user = new CustomUserDetails(UUID.randomUUID(), tenantId, "replica@example.com",
+                "x", "Replica", "Tester", User.Role.MEMBER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        // The first health check runs right away; give it a moment
+        for (int i = 0; i < 50 && !router.replicaHealth().get("replica-1"); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(router.replicaHealth().get("replica-1"));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        assertEquals(REPLICA, applicationName(true));
+    }
+
+    @Test
+    void readWriteTransaction_UsesPrimary() {
+        assertNotEquals(REPLICA, applicationName(false));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterUnreplayedWrite_UsesPrimary() {
+        router.recordWrite(tenantId, Long.MAX_VALUE);
+
+        assertNotEquals(REPLICA, applicationName(true));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterWriteTheReplicaHasReplayed_UsesReplica() {
+        router.recordWrite(tenantId, 0);
+
+        assertEquals(REPLICA, applicationName(true));
+    }
+
+    @Test
+    void consistentRead_VersionAndBodyTransactions_ShareOneReplicaConnection() {
+        List<String> backends = consistentReads.read(() -> List.of(backend(), backend()));
+
+        assertEquals(backends.get(0), backends.get(1));
+        assertTrue(backends.get(0).startsWith(REPLICA));
+    }
+
+    // A read-only transaction of its own, as each service call opens
+    private String backend() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT current_setting('application_name') || ':' || pg_backend_pid()", String.class));
+    }
+
+    private String applicationName(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+    }
+}
@@ -0,0 +1,74 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.dto.CommentResponse;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseSerializersTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper handWritten = JsonMapper.builder()
+            .addModule(new JsonSerializersConfig().responseSerializersModule())
+            .build();
+
+    @Test
+    void taskResponse_SameJsonAsReflectiveSerializer() {
+        Instant now = Instant.parse("2030-01-02T03:04:05.123456Z");
+        List<TaskResponse> tasks = List.of(
+                new TaskResponse(UUID.randomUUID(), UUID.randomUUID(), "Escapes \" \\ / \t \u0001 é 🚀",
+                        "line one\nline two", Task.TaskStatus.IN_PROGRESS, Task.TaskPriority.HIGH,
+                        UUID.randomUUID(), UUID.randomUUID(), Instant.parse("2030-01-02T03:04:05Z"), now, now),
+                new TaskResponse(UUID.randomUUID(), null, null, null, null, null, null, null, null, null, null));
+
+        assertEquals(reflective.readTree(reflective.writeValueAsString(tasks)),
+                reflective.readTree(handWritten.writeValueAsString(tasks)));
+    }
+
+    @Test
+    void commentResponse_SameJsonAsReflectiveSerializer() {
+        CommentResponse comment = new CommentResponse(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "a@example.com", "A \"B\"", "Looks <good>", Instant.parse("2030-01-02T03:04:05.120Z"),
+                Instant.parse("2030-01-02T03:04:05.000000001Z"));
+
+        assertEquals(reflective.readTree(reflective.writeValueAsString(comment)),
+                reflective.readTree(handWritten.writeValueAsString(comment)));
+    }
+
+    @Test
+    void formatUuidAndInstant_MatchToString() {
+        Random random = new Random(42);
+        char[] buffer = new char[36];
+        for (int i = 0; i < 100_000; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            assertEquals(id.toString(), new String(buffer, 0, JsonText.formatUuid(id, buffer)));
+
+            // Any second in 0000-9999, with 0, 3, 6 or 9 fraction digits
+            long seconds = -62_167_219_200L + Math.floorMod(random.nextLong(), 315_569_520_000L);
+            int nanos = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            Instant instant = Instant.ofEpochSecond(seconds, nanos);
+            assertEquals(instant.toString(), new String(buffer, 0, JsonText.formatInstant(instant, buffer)));
+        }
+    }
+
+    @Test
+    void formatInstant_YearOutsideFourDigits_LeftToInstant() {
+        char[] buffer = new char[36];
+
+        assertEquals(-1, JsonText.formatInstant(Instant.parse("+10000-01-01T00:00:00Z"), buffer));
+        assertEquals(-1, JsonText.formatInstant(Instant.parse("-0001-12-31T23:59:59Z"), buffer));
+    }
+}
@@ -0,0 +1,38 @@
+package com.rigygeorge.taskmanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThreadingConfigTest {
+
+    private final TaskDecorator decorator = new ThreadingConfig().securityContextTaskDecorator();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void decoratedTask_RunsWithSubmittersSecurityContext() throws Exception {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        Runnable task = decorator.decorate(() -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+        SecurityContextHolder.clearContext();
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        assertSame(authentication, seen.get());
+    }
+}
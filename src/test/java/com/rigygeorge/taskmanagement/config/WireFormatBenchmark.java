@@ -0,0 +1,111 @@
+package com.rigygeorge.taskmanagement.config;
+
+import com.rigygeorge.taskmanagement.dto.ProjectResponse;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Payload size (raw and gzipped) and serialization / parsing time of a
+ * 10k-task list and a 1k-project list in JSON, CBOR and Smile, with the
+ * mapper settings of the HTTP layer (see BinaryFormatsConfig).
+ *
+ * <p>Not part of the regular build (the class name does not match the
+ * surefire includes); run it on its own with
+ * {@code mvn test -Dtest=WireFormatBenchmark}.
+ */
+class WireFormatBenchmark {
+
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 15;
+
+    private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    WireFormatBenchmark() {
+        mappers.put("JSON", JsonMapper.builder().build());
+        mappers.put("CBOR", CBORMapper.builder().enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+        mappers.put("Smile", SmileMapper.builder().enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+    }
+
+    @Test
+    void taskList() {
+        List<TaskResponse> tasks = new ArrayList<>();
+        Instant now = Instant.parse("2030-01-02T03:04:05.123456Z");
+        for (int i = 0; i < 10_000; i++) {
+            tasks.add(new TaskResponse(UUID.randomUUID(), UUID.randomUUID(), "Task " + i,
+                    "Description of task " + i + ".", Task.TaskStatus.values()[i % 3],
+                    Task.TaskPriority.values()[i % 3], i % 2 == 0 ? UUID.randomUUID() : null, UUID.randomUUID(),
+                    i % 4 == 0 ? now.plusSeconds(i) : null, now.minusSeconds(i), now));
+        }
+        compare("10,000 tasks", tasks, new TypeReference<List<TaskResponse>>() { });
+    }
+
+    @Test
+    void projectList() {
+        List<ProjectResponse> projects = new ArrayList<>();
+        Instant now = Instant.parse("2030-01-02T03:04:05.123456Z");
+        for (int i = 0; i < 1_000; i++) {
+            projects.add(new ProjectResponse(UUID.randomUUID(), "Project " + i, "Description of project " + i,
+                    UUID.randomUUID(), now.minusSeconds(i), now));
+        }
+        compare("1,000 projects", projects, new TypeReference<List<ProjectResponse>>() { });
+    }
+
+    private <T> void compare(String label, List<T> items, TypeReference<List<T>> type) {
+        System.out.println(label + ":");
+        mappers.forEach((format, mapper) -> {
+            byte[] body = mapper.writeValueAsBytes(items);
+            // Every format must read back what it wrote
+            assertEquals(items.size(), mapper.readValue(body, type).size());
+
+            long writeMicros = median(() -> mapper.writeValueAsBytes(items));
+            long readMicros = median(() -> mapper.readValue(body, type));
+            System.out.printf("  %-5s %,10d bytes (%,9d gzipped)  write %,7d us  read %,7d us%n",
+                    format, body.length, gzipped(body).length, writeMicros, readMicros);
+        });
+    }
+
+    // Median of the measured runs, after the JIT has warmed up
+    private static long median(Runnable run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.run();
+        }
+        long[] micros = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros[MEASURED_RUNS / 2];
+    }
+
+    private static byte[] gzipped(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,88 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.RegisterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class AdminControllerIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private String authToken;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admintest@example.com");
+        registerRequest.setPassword("password123");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Tester");
+        registerRequest.setOrganizationName("Admin Org");
+        
+        MvcResult registerResult = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        
+        authToken = objectMapper.readTree(registerResult.getResponse().getContentAsString()).get("token").asText();
+    }
+    
+    @Test
+    void getCacheStats_Admin_ReturnsRegions() throws Exception {
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Cached Project");
+        
+        mockMvc.perform(post("/api/projects")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(projectRequest)))
+                .andExpect(status().isCreated());
+        
+        mockMvc.perform(get("/api/admin/cache-stats")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.entityRegions[*].region", hasItem("projects")))
+                .andExpect(jsonPath("$.queryCache.region").value("default-query-results-region"))
+                .andExpect(jsonPath("$.responseCache.hitRatio").exists());
+    }
+    
+    @Test
+    void getCacheStats_WithoutAuth_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/cache-stats"))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    void getThreadStats_Admin_ReportsModeAndPool() throws Exception {
+        mockMvc.perform(get("/api/admin/thread-stats")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.virtualThreads").value(false))
+                .andExpect(jsonPath("$.pinningMonitored").value(false))
+                .andExpect(jsonPath("$.dbPoolMaxSize").value(10))
+                // This test's transaction holds a connection
+                .andExpect(jsonPath("$.dbPoolActive").value(greaterThanOrEqualTo(1)));
+    }
+}
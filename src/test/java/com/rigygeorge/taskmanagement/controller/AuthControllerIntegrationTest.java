@@ -12,6 +12,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -255,4 +256,43 @@ class AuthControllerIntegrationTest {
         assert registerToken != null && !registerToken.isEmpty();
         assert loginToken != null && !loginToken.isEmpty();
     }
-}
\ No newline at end of file
+    
+    // ============== TOKEN REVOCATION TESTS ==============
+    
+    @Test
+    void logout_RevokesPreviouslyIssuedToken() throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("logout@example.com");
+        request.setPassword("password123");
+        request.setFirstName("Logout");
+        request.setLastName("Test");
+        request.setOrganizationName("Logout Org");
+        
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String token = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+        
+        // Token works before logout
+        mockMvc.perform(get("/api/projects")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        
+        mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        
+        // Same token is rejected afterwards
+        mockMvc.perform(get("/api/projects")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    void logout_WithoutToken_IsRejected() throws Exception {
+        mockMvc.perform(post("/api/auth/logout"))
+                .andExpect(status().isForbidden());
+    }
+}
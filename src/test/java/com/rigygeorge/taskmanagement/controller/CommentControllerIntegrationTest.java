@@ -2,7 +2,15 @@ package com.rigygeorge.taskmanagement.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rigygeorge.taskmanagement.dto.*;
+import com.rigygeorge.taskmanagement.entity.Comment;
 import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.repository.CommentRepository;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +21,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -24,6 +37,18 @@ class CommentControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
     
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CommentRepository commentRepository;
+    
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     private String authToken;
@@ -216,6 +241,80 @@ class CommentControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
     
+    // ============== QUERY COUNT TEST ==============
+    
+    @Test
+    void getComments_QueryCountDoesNotGrowWithCommentVolume() throws Exception {
+        Task small = taskRepository.findById(UUID.fromString(taskId)).orElseThrow();
+        Task large = new Task();
+        large.setTenantId(small.getTenantId());
+        large.setProjectId(small.getProjectId());
+        large.setTitle("Busy Task");
+        large.setStatus(Task.TaskStatus.TODO);
+        large.setPriority(Task.TaskPriority.MEDIUM);
+        large.setCreatedBy(small.getCreatedBy());
+        large = taskRepository.save(large);
+        
+        // Warm up the per-request security path before counting
+        mockMvc.perform(get("/api/tasks/" + taskId + "/comments")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk());
+        
+        // Fresh authors on both tasks, so both requests miss the display-name cache
+        addComments(small, createAuthors(small.getTenantId(), "solo", 1), 1);
+        addComments(large, createAuthors(small.getTenantId(), "crowd", 5), 60);
+        
+        long smallCount = countStatements("/api/tasks/" + taskId + "/comments", 1);
+        long largeCount = countStatements("/api/tasks/" + large.getId() + "/comments?limit=100", 60);
+        
+        assertEquals(smallCount, largeCount);
+    }
+    
+    private List<User> createAuthors(UUID tenantId, String prefix, int count) {
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User author = new User();
+            author.setTenantId(tenantId);
+            author.setEmail(prefix + i + "@example.com");
+            author.setPassword("unused");
+            author.setFirstName("Author");
+            author.setLastName(prefix + i);
+            author.setRole(User.Role.MEMBER);
+            authors.add(author);
+        }
+        return userRepository.saveAll(authors);
+    }
+    
+    private void addComments(Task task, List<User> authors, int count) {
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Comment comment = new Comment();
+            comment.setTenantId(task.getTenantId());
+            comment.setTaskId(task.getId());
+            comment.setUserId(authors.get(i % authors.size()).getId());
+            comment.setContent("Comment " + i);
+            comments.add(comment);
+        }
+        commentRepository.saveAllAndFlush(comments);
+    }
+    
+    private long countStatements(String url, int expectedComments) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            mockMvc.perform(get(url)
+                    .header("Authorization", "Bearer " + authToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(expectedComments))
+                    .andExpect(jsonPath("$[0].userName").value(org.hamcrest.Matchers.startsWith("Author")));
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+    
     // ============== MULTI-TENANCY TEST ==============
     
     @Test
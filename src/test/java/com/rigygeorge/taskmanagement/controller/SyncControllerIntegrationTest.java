@@ -0,0 +1,268 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rigygeorge.taskmanagement.dto.CreateCommentRequest;
+import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.CreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.RegisterRequest;
+import com.rigygeorge.taskmanagement.dto.UpdateTaskRequest;
+import com.rigygeorge.taskmanagement.service.ChangeLogRetention;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SyncControllerIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private Flyway flyway;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ChangeLogRetention changeLogRetention;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private String authToken;
+    private String projectId;
+    private String taskId;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        authToken = register("synctest@example.com", "Sync Org");
+        
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Sync Project");
+        projectId = create(post("/api/projects"), projectRequest);
+        
+        CreateTaskRequest taskRequest = new CreateTaskRequest();
+        taskRequest.setProjectId(UUID.fromString(projectId));
+        taskRequest.setTitle("Sync Task");
+        taskId = create(post("/api/tasks"), taskRequest);
+    }
+    
+    @Test
+    void migrations_Applied_ChangeLogBacksSyncAndCollectionETags() throws Exception {
+        // change_log and its triggers only exist through the migrations, not the entities
+        assertEquals(0, flyway.info().pending().length);
+        assertNotNull(flyway.info().current());
+        
+        entityManager.flush();
+        mockMvc.perform(authorized(get("/api/tasks")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+        assertEquals(taskId, sync(null).get("tasks").get(0).get("id").asText());
+    }
+    
+    @Test
+    void sync_WithoutToken_ReturnsEverything() throws Exception {
+        JsonNode sync = sync(null);
+        
+        assertEquals(1, sync.get("projects").size());
+        assertEquals(projectId, sync.get("projects").get(0).get("id").asText());
+        assertEquals(1, sync.get("tasks").size());
+        assertEquals(taskId, sync.get("tasks").get(0).get("id").asText());
+        assertEquals(0, sync.get("deleted").size());
+        assertFalse(sync.get("hasMore").asBoolean());
+    }
+    
+    @Test
+    void sync_SinceToken_ReturnsOnlyLaterChanges() throws Exception {
+        String token = sync(null).get("nextToken").asText();
+        
+        UpdateTaskRequest update = new UpdateTaskRequest();
+        update.setTitle("Renamed");
+        mockMvc.perform(authorized(put("/api/tasks/" + taskId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        
+        JsonNode sync = sync(token);
+        
+        assertEquals(0, sync.get("projects").size());
+        assertEquals(1, sync.get("tasks").size());
+        assertEquals("Renamed", sync.get("tasks").get(0).get("title").asText());
+        assertEquals(0, sync(sync.get("nextToken").asText()).get("tasks").size());
+    }
+    
+    @Test
+    void sync_AfterDeletes_ReturnsTombstones() throws Exception {
+        CreateCommentRequest commentRequest = new CreateCommentRequest();
+        commentRequest.setContent("Soon gone");
+        String commentId = create(post("/api/tasks/" + taskId + "/comments"), commentRequest);
+        String token = sync(null).get("nextToken").asText();
+        
+        // Deleting the project cascades to its task and the task's comment
+        mockMvc.perform(authorized(delete("/api/projects/" + projectId)))
+                .andExpect(status().isNoContent());
+        
+        JsonNode sync = sync(token);
+        
+        assertEquals(0, sync.get("tasks").size());
+        assertEquals(3, sync.get("deleted").size());
+        String deleted = sync.get("deleted").toString();
+        assertTrue(deleted.contains(projectId));
+        assertTrue(deleted.contains(taskId));
+        assertTrue(deleted.contains(commentId));
+    }
+    
+    @Test
+    void sync_TokenOlderThanPurgedTombstone_ReturnsGone() throws Exception {
+        String token = sync(null).get("nextToken").asText();
+        mockMvc.perform(authorized(delete("/api/tasks/" + taskId)))
+                .andExpect(status().isNoContent());
+        String afterDelete = sync(token).get("nextToken").asText();
+        
+        purgeTombstonesAged(31);
+        
+        mockMvc.perform(authorized(get("/api/sync")).param("since", token))
+                .andExpect(status().isGone());
+        // Past the purged tombstone nothing was missed
+        mockMvc.perform(authorized(get("/api/sync")).param("since", afterDelete))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    void sync_TombstoneWithinRetention_IsKept() throws Exception {
+        String token = sync(null).get("nextToken").asText();
+        mockMvc.perform(authorized(delete("/api/tasks/" + taskId)))
+                .andExpect(status().isNoContent());
+        
+        purgeTombstonesAged(29);
+        
+        assertEquals(taskId, sync(token).get("deleted").get(0).get("id").asText());
+    }
+    
+    @Test
+    void sync_WithoutTokenAfterPurge_PagesThroughWithoutResync() throws Exception {
+        CreateTaskRequest taskRequest = new CreateTaskRequest();
+        taskRequest.setProjectId(UUID.fromString(projectId));
+        taskRequest.setTitle("Short-lived");
+        String shortLivedId = create(post("/api/tasks"), taskRequest);
+        mockMvc.perform(authorized(delete("/api/tasks/" + shortLivedId)))
+                .andExpect(status().isNoContent());
+        sync(null);
+        purgeTombstonesAged(31);
+        
+        // The first page ends below the purged tombstone, but a sync that starts
+        // from scratch never needed it
+        JsonNode first = sync(null, 1);
+        assertTrue(first.get("hasMore").asBoolean());
+        JsonNode second = sync(first.get("nextToken").asText(), 1);
+        assertFalse(second.get("hasMore").asBoolean());
+        assertEquals(0, second.get("deleted").size());
+    }
+    
+    @Test
+    void sync_Limit_PagesThroughChanges() throws Exception {
+        JsonNode first = sync(null, 1);
+        assertTrue(first.get("hasMore").asBoolean());
+        assertEquals(1, first.get("projects").size() + first.get("tasks").size());
+        
+        JsonNode second = sync(first.get("nextToken").asText(), 1);
+        assertFalse(second.get("hasMore").asBoolean());
+        assertEquals(1, second.get("projects").size() + second.get("tasks").size());
+    }
+    
+    @Test
+    void sync_OtherTenant_SeesNothing() throws Exception {
+        authToken = register("synctest-other@example.com", "Other Org");
+        
+        JsonNode sync = sync(null);
+        
+        assertEquals(0, sync.get("projects").size());
+        assertEquals(0, sync.get("tasks").size());
+    }
+    
+    @Test
+    void sync_InvalidToken_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(authorized(get("/api/sync")).param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void sync_WithoutAuth_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/sync"))
+                .andExpect(status().isForbidden());
+    }
+    
+    private JsonNode sync(String since) throws Exception {
+        return sync(since, 500);
+    }
+    
+    private JsonNode sync(String since, int limit) throws Exception {
+        // The change log is written by triggers, so pending inserts must reach the database first
+        entityManager.flush();
+        MockHttpServletRequestBuilder request = authorized(get("/api/sync")).param("limit", String.valueOf(limit));
+        if (since != null) {
+            request.param("since", since);
+        }
+        String response = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+    
+    // Backdates every tombstone, then lets the retention job (30 days) run
+    private void purgeTombstonesAged(int days) throws Exception {
+        sync(null);
+        jdbcTemplate.update("UPDATE change_log SET changed_at = changed_at - make_interval(days => ?) WHERE deleted",
+                days);
+        changeLogRetention.purge();
+    }
+    
+    private String register(String email, String organization) throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail(email);
+        registerRequest.setPassword("password123");
+        registerRequest.setFirstName("Sync");
+        registerRequest.setLastName("Tester");
+        registerRequest.setOrganizationName(organization);
+        
+        String response = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("token").asText();
+    }
+    
+    private String create(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        String response = mockMvc.perform(authorized(request)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asText();
+    }
+    
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + authToken);
+    }
+}
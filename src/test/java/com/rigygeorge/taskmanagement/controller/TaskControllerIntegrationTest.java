@@ -3,16 +3,20 @@ package com.rigygeorge.taskmanagement.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rigygeorge.taskmanagement.dto.*;
 import com.rigygeorge.taskmanagement.entity.Task;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -21,9 +25,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Transactional
 class TaskControllerIntegrationTest {
     
+    private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    
     @Autowired
     private MockMvc mockMvc;
     
+    @Autowired
+    private EntityManager entityManager;
+    
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     private String authToken;
@@ -86,6 +95,100 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.priority").value("HIGH"));
     }
     
+    @Test
+    void createTasksBulk_MixedItems_ReportsResultPerItem() throws Exception {
+        CreateTaskRequest valid = new CreateTaskRequest();
+        valid.setProjectId(java.util.UUID.fromString(projectId));
+        valid.setTitle("Bulk Task");
+        
+        CreateTaskRequest missingTitle = new CreateTaskRequest();
+        missingTitle.setProjectId(java.util.UUID.fromString(projectId));
+        
+        CreateTaskRequest unknownProject = new CreateTaskRequest();
+        unknownProject.setProjectId(java.util.UUID.randomUUID());
+        unknownProject.setTitle("Orphan");
+        
+        BulkCreateTaskRequest request = new BulkCreateTaskRequest();
+        request.setTasks(java.util.List.of(valid, missingTitle, unknownProject, valid));
+        
+        mockMvc.perform(post("/api/tasks/bulk")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].task.id").exists())
+                .andExpect(jsonPath("$.results[1].error").value("Task title is required"))
+                .andExpect(jsonPath("$.results[2].error").value("Project not found"))
+                .andExpect(jsonPath("$.results[3].index").value(3));
+    }
+    
+    @Test
+    void createTasksBulk_EmptyList_ReturnsBadRequest() throws Exception {
+        BulkCreateTaskRequest request = new BulkCreateTaskRequest();
+        request.setTasks(java.util.List.of());
+        
+        mockMvc.perform(post("/api/tasks/bulk")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void updateTasksBulk_ByFilter_UpdatesAllMatches() throws Exception {
+        CreateTaskRequest item = new CreateTaskRequest();
+        item.setProjectId(java.util.UUID.fromString(projectId));
+        item.setTitle("Sprint Task");
+        item.setStatus(Task.TaskStatus.IN_PROGRESS);
+        BulkCreateTaskRequest create = new BulkCreateTaskRequest();
+        create.setTasks(java.util.List.of(item, item, item));
+        mockMvc.perform(post("/api/tasks/bulk")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isOk());
+        
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(Task.TaskStatus.IN_PROGRESS);
+        TaskChanges changes = new TaskChanges();
+        changes.setStatus(Task.TaskStatus.DONE);
+        BulkUpdateTaskRequest request = new BulkUpdateTaskRequest();
+        request.setFilter(filter);
+        request.setChanges(changes);
+        
+        mockMvc.perform(patch("/api/tasks/bulk")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(3));
+        
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .param("status", "DONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+    
+    @Test
+    void updateTasksBulk_IdsAndFilter_ReturnsBadRequest() throws Exception {
+        TaskChanges changes = new TaskChanges();
+        changes.setStatus(Task.TaskStatus.DONE);
+        BulkUpdateTaskRequest request = new BulkUpdateTaskRequest();
+        request.setIds(java.util.List.of(java.util.UUID.randomUUID()));
+        request.setFilter(new TaskFilter());
+        request.setChanges(changes);
+        
+        mockMvc.perform(patch("/api/tasks/bulk")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+    
     @Test
     void createTask_WithoutAuth_ReturnsForbidden() throws Exception {
         CreateTaskRequest request = new CreateTaskRequest();
@@ -121,6 +224,144 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].title").value("Test Task"));
     }
     
+    @Test
+    void getAllTasks_WithLimit_PagesThroughCursor() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setProjectId(java.util.UUID.fromString(projectId));
+            request.setTitle("Paged Task " + i);
+            
+            mockMvc.perform(post("/api/tasks")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+        
+        // First page: newest two tasks plus a cursor for the rest
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks")
+                .param("limit", "2")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Paged Task 3"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(header().exists("Link"))
+                .andReturn();
+        
+        String cursor = firstPage.getResponse().getHeader("X-Next-Cursor");
+        
+        // Last page: the remaining task and no further cursor
+        mockMvc.perform(get("/api/tasks")
+                .param("limit", "2")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Paged Task 1"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+    
+    @Test
+    void getAllTasks_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .param("cursor", "garbage")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void getAllTasks_WithFields_ReturnsOnlySelectedFields() throws Exception {
+        String taskId = createTask("Sparse Task");
+        
+        mockMvc.perform(get("/api/tasks")
+                .param("fields", "id,title")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskId))
+                .andExpect(jsonPath("$[0].title").value("Sparse Task"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].status").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+    }
+    
+    @Test
+    void getAllTasks_UnknownField_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .param("fields", "id,tenantId")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void createAndListTasks_Cbor_RoundTripsWithoutJson() throws Exception {
+        CBORMapper cborMapper = CBORMapper.builder().build();
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setProjectId(java.util.UUID.fromString(projectId));
+        request.setTitle("Binary Task");
+        request.setDueDate(java.time.Instant.parse("2030-01-02T03:04:05.123456Z"));
+        
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(CBOR)
+                .accept(CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(CBOR));
+        
+        MvcResult result = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn();
+        
+        tools.jackson.databind.JsonNode task = cborMapper.readTree(result.getResponse().getContentAsByteArray()).get(0);
+        assertEquals("Binary Task", task.get("title").asString());
+        // Ids are 16 raw bytes and instants numbers, not strings
+        assertTrue(task.get("id").isBinary());
+        assertTrue(task.get("dueDate").isNumber());
+    }
+    
+    @Test
+    void listTasks_WithoutAcceptOrWildcard_ReturnsJson() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+    
+    @Test
+    void listTasks_EtagPerFormat_JsonTagDoesNotConfirmCbor() throws Exception {
+        MvcResult json = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", org.hamcrest.Matchers.hasItem("Accept")))
+                .andReturn();
+        String jsonTag = json.getResponse().getHeader("ETag");
+        
+        MvcResult cbor = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .header("If-None-Match", jsonTag)
+                .accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn();
+        assertNotEquals(jsonTag, cbor.getResponse().getHeader("ETag"));
+        
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .header("If-None-Match", cbor.getResponse().getHeader("ETag"))
+                .accept(CBOR))
+                .andExpect(status().isNotModified());
+    }
+    
     @Test
     void updateTask_ValidRequest_ReturnsUpdated() throws Exception {
         // Create a task
@@ -184,6 +425,96 @@ class TaskControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
     
+    // ============== CONDITIONAL REQUEST TESTS ==============
+    
+    @Test
+    void getTaskById_IfNoneMatchCurrent_ReturnsNotModified() throws Exception {
+        String taskId = createTask("Conditional Task");
+        
+        String etag = mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+    
+    @Test
+    void updateTask_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        String taskId = createTask("Contended Task");
+        String etag = mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + authToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        UpdateTaskRequest first = new UpdateTaskRequest();
+        first.setTitle("First Writer");
+        String newEtag = mockMvc.perform(put("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + authToken)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        UpdateTaskRequest second = new UpdateTaskRequest();
+        second.setTitle("Second Writer");
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + authToken)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isPreconditionFailed());
+        
+        // The tag returned by the successful update is the one that matches now
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, newEtag))
+                .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    void getAllTasks_IfNoneMatch_NotModifiedUntilTenantChanges() throws Exception {
+        entityManager.flush();
+        String etag = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        
+        createTask("New Task");
+        // The collection tag follows the change log, which triggers write on flush
+        entityManager.flush();
+        
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+    
+    private String createTask(String title) throws Exception {
+        CreateTaskRequest createRequest = new CreateTaskRequest();
+        createRequest.setProjectId(java.util.UUID.fromString(projectId));
+        createRequest.setTitle(title);
+        
+        MvcResult createResult = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asText();
+    }
+    
     // ============== MULTI-TENANCY TEST ==============
     
     @Test
@@ -0,0 +1,148 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rigygeorge.taskmanagement.dto.BulkCreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.CreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.RegisterRequest;
+import com.rigygeorge.taskmanagement.entity.Task;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Exports more tasks than one fetch of the server-side cursor (1000 rows), so
+ * the export has to go back to the database while it is writing.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class TaskExportIntegrationTest {
+
+    private static final int TASK_COUNT = 2500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String authToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("exporttest@example.com");
+        registerRequest.setPassword("password123");
+        registerRequest.setFirstName("Export");
+        registerRequest.setLastName("Tester");
+        registerRequest.setOrganizationName("Export Org");
+
+        MvcResult registerResult = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        authToken = objectMapper.readTree(registerResult.getResponse().getContentAsString()).get("token").asText();
+
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Export Project");
+        MvcResult projectResult = mockMvc.perform(post("/api/projects")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(projectRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        UUID projectId = UUID.fromString(
+                objectMapper.readTree(projectResult.getResponse().getContentAsString()).get("id").asText());
+
+        List<CreateTaskRequest> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            CreateTaskRequest task = new CreateTaskRequest();
+            task.setProjectId(projectId);
+            task.setTitle("Export task " + i);
+            task.setDescription(i % 2 == 0 ? "line one\nline two" : null);
+            tasks.add(task);
+        }
+        BulkCreateTaskRequest bulk = new BulkCreateTaskRequest();
+        bulk.setTasks(tasks);
+        mockMvc.perform(post("/api/tasks/bulk")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulk)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(TASK_COUNT));
+
+        // The export must read the rows back from the database
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportTasks_Ndjson_MoreThanOneFetch_StreamsEveryTaskAsApiJson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(TASK_COUNT, lines.length);
+
+        Set<String> ids = new HashSet<>();
+        for (String line : lines) {
+            ids.add(objectMapper.readTree(line).get("id").asText());
+        }
+        assertEquals(TASK_COUNT, ids.size());
+
+        // Each row is detached once written, so none piles up in the persistence context
+        long tasksInContext = entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .filter(key -> ((EntityKey) key).getEntityName().equals(Task.class.getName()))
+                .count();
+        assertEquals(0, tasksInContext);
+
+        // Lines are rendered by the application JsonMapper, like the task endpoint
+        JsonNode exported = objectMapper.readTree(lines[lines.length - 1]);
+        MvcResult single = mockMvc.perform(get("/api/tasks/" + exported.get("id").asText())
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(objectMapper.readTree(single.getResponse().getContentAsString()), exported);
+    }
+
+    @Test
+    void exportTasks_Csv_MoreThanOneFetch_WritesEveryTask() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                .param("format", "CSV")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String csv = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        // Header plus one record per task; quoted descriptions hold bare \n, records end in \r\n
+        assertEquals(TASK_COUNT + 1, csv.split("\r\n").length);
+    }
+}
@@ -0,0 +1,150 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.RegisterRequest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * With tasks.list.db-json on, list pages are rendered by PostgreSQL. Every
+ * element must equal the Jackson rendering of the same task (GET /api/tasks/{id}),
+ * and the pages and cursors must match those of the regular path.
+ */
+@SpringBootTest(properties = "tasks.list.db-json=true")
+@AutoConfigureMockMvc
+@Transactional
+class TaskJsonPassthroughIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String authToken;
+    private String projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("jsontest@example.com");
+        registerRequest.setPassword("password123");
+        registerRequest.setFirstName("Json");
+        registerRequest.setLastName("Tester");
+        registerRequest.setOrganizationName("Json Org");
+
+        MvcResult registerResult = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        authToken = objectMapper.readTree(registerResult.getResponse().getContentAsString()).get("token").asText();
+
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Json Project");
+        projectId = create("/api/projects", objectMapper.writeValueAsString(projectRequest));
+
+        // Nulls, escapes, non-ASCII text and every fraction width an Instant can print with
+        createTask("Plain", null, null);
+        createTask("Escapes \" \\ / \t", "line one\nline two \u0001 </script>", "2030-01-02T03:04:05Z");
+        createTask("Unicode éè 中文 🚀", "", "2030-01-02T03:04:05.120Z");
+        createTask("Micros", "d", "2030-01-02T03:04:05.123456Z");
+
+        // Everything below is read back from the database, not the persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllTasks_RenderedByDatabase_EqualsJacksonRenderingOfEachTask() throws Exception {
+        JsonNode list = getJson("/api/tasks", Map.of());
+
+        assertEquals(4, list.size());
+        for (JsonNode task : list) {
+            JsonNode single = getJson("/api/tasks/" + task.get("id").asText(), Map.of());
+            assertEquals(single, task);
+        }
+    }
+
+    @Test
+    void getTasksByProject_PagesMatchRegularPath() throws Exception {
+        List<String> passthrough = pageIds("/api/tasks/project/" + projectId, Map.of());
+        // A field selection always takes the regular path
+        List<String> regular = pageIds("/api/tasks/project/" + projectId, Map.of("fields", "id"));
+
+        assertEquals(4, passthrough.size());
+        assertEquals(regular, passthrough);
+    }
+
+    // Ids of every task, walking the pages two at a time along X-Next-Cursor
+    private List<String> pageIds(String path, Map<String, String> params) throws Exception {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            Map<String, String> pageParams = new HashMap<>(params);
+            pageParams.put("limit", "2");
+            if (cursor != null) {
+                pageParams.put("cursor", cursor);
+            }
+            MvcResult result = fetch(path, pageParams);
+            objectMapper.readTree(result.getResponse().getContentAsString())
+                    .forEach(task -> ids.add(task.get("id").asText()));
+            cursor = result.getResponse().getHeader(PageResponses.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode getJson(String path, Map<String, String> params) throws Exception {
+        return objectMapper.readTree(fetch(path, params).getResponse().getContentAsString());
+    }
+
+    private MvcResult fetch(String path, Map<String, String> params) throws Exception {
+        MockHttpServletRequestBuilder request = get(path).header("Authorization", "Bearer " + authToken);
+        params.forEach(request::param);
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+    }
+
+    private void createTask(String title, String description, String dueDate) throws Exception {
+        Map<String, Object> request = new HashMap<>();
+        request.put("projectId", projectId);
+        request.put("title", title);
+        request.put("description", description);
+        request.put("dueDate", dueDate);
+        create("/api/tasks", objectMapper.writeValueAsString(request));
+    }
+
+    private String create(String path, String body) throws Exception {
+        MvcResult result = mockMvc.perform(post(path)
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+}
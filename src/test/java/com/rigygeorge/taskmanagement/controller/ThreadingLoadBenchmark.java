@@ -0,0 +1,192 @@
+package com.rigygeorge.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rigygeorge.taskmanagement.dto.BulkCreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.CreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.RegisterRequest;
+import com.rigygeorge.taskmanagement.service.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 2,000 concurrent clients, each on its own connection, paging through the
+ * task list as fast as they can for 30 seconds, against a real server. The
+ * response cache is off, so every request runs its queries. Reports
+ * throughput, latency percentiles and 503s (connection pool timeouts).
+ *
+ * <p>Not part of the regular build (the class name does not match the
+ * surefire includes). Run it once per threading mode and compare:
+ * {@code mvn test -Dtest=ThreadingLoadBenchmark}, then
+ * {@code VIRTUAL_THREADS_ENABLED=true mvn test -Dtest=ThreadingLoadBenchmark}
+ * (on Java 21 or later). The seeded organization is committed, under a
+ * random email, and left in the database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "response-cache.enabled=false")
+class ThreadingLoadBenchmark {
+
+    private static final int CONNECTIONS = 2_000;
+    private static final int TASKS = 500;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration MEASURED = Duration.ofSeconds(30);
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @Test
+    void listTasksAt2kConnections() throws Exception {
+        String token = seed();
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/tasks?limit=50"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        run(request, WARMUP, null);
+        Stats stats = new Stats();
+        run(request, MEASURED, stats);
+
+        long[] latencies = stats.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("%s threads, %,d connections: %,.0f req/s, p50 %d ms, p99 %d ms, max %d ms, "
+                        + "%,d errors (%,d x 503), pinned %s%n",
+                pinningMonitor.isVirtualThreads() ? "virtual" : "platform", CONNECTIONS,
+                latencies.length / (double) MEASURED.toSeconds(),
+                percentile(latencies, 50), percentile(latencies, 99), latencies[latencies.length - 1],
+                stats.errors.get(), stats.unavailable.get(), pinningMonitor.pinnedCounts());
+        assertTrue(latencies.length > 0);
+    }
+
+    // Every client sends back to back until the deadline; stats is null during warmup
+    private void run(HttpRequest request, Duration duration, Stats stats) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            Thread client = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status = send(request);
+                        if (stats != null) {
+                            stats.record(status, (System.nanoTime() - start) / 1_000_000);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            client.setDaemon(true);
+            client.start();
+        }
+        done.await();
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    // An organization with one project and TASKS tasks; returns the admin's token
+    private String seed() throws Exception {
+        RegisterRequest register = new RegisterRequest();
+        register.setEmail("load-" + UUID.randomUUID() + "@benchmark.test");
+        register.setPassword("password123");
+        register.setFirstName("Load");
+        register.setLastName("Test");
+        register.setOrganizationName("Load Test");
+        String token = objectMapper.readTree(post("/api/auth/register", null, register)).get("token").asText();
+
+        CreateProjectRequest project = new CreateProjectRequest();
+        project.setName("Load Project");
+        UUID projectId = UUID.fromString(objectMapper.readTree(post("/api/projects", token, project)).get("id").asText());
+
+        List<CreateTaskRequest> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            CreateTaskRequest task = new CreateTaskRequest();
+            task.setProjectId(projectId);
+            task.setTitle("Load task " + i);
+            task.setDescription("Description of load task " + i);
+            tasks.add(task);
+        }
+        BulkCreateTaskRequest bulk = new BulkCreateTaskRequest();
+        bulk.setTasks(tasks);
+        post("/api/tasks/bulk", token, bulk);
+        return token;
+    }
+
+    private String post(String path, String token, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertTrue(response.statusCode() < 300, () -> path + " returned " + response.statusCode());
+        return response.body();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static class Stats {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong unavailable = new AtomicLong();
+
+        void record(int status, long millis) {
+            if (status != 200) {
+                errors.incrementAndGet();
+                if (status == 503) {
+                    unavailable.incrementAndGet();
+                }
+                return;
+            }
+            synchronized (latencies) {
+                latencies.add(millis);
+            }
+        }
+
+        long[] latencies() {
+            synchronized (latencies) {
+                return latencies.stream().mapToLong(Long::longValue).toArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.rigygeorge.taskmanagement.entity;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The entities as built by the hibernate-enhance profile: enhanced by the
+ * plugin, loaded by the runtime, and flushed through their own dirty
+ * tracking. The profile sets hibernate.enhanced for surefire; builds with
+ * -DskipEnhance skip these tests.
+ */
+@SpringBootTest
+@Transactional
+class EntityEnhancementIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void requireEnhancedBuild() {
+        assumeTrue(Boolean.getBoolean("hibernate.enhanced"), "built with -DskipEnhance");
+    }
+
+    @Test
+    void entities_AreEnhanced() {
+        for (Class<?> entity : List.of(Task.class, Project.class, Comment.class, User.class, Tenant.class)) {
+            assertTrue(ManagedEntity.class.isAssignableFrom(entity), entity.getSimpleName());
+            assertTrue(SelfDirtinessTracker.class.isAssignableFrom(entity), entity.getSimpleName());
+        }
+    }
+
+    @Test
+    void loadedTask_Modified_TracksAndFlushesOnlyTheChangedAttribute() {
+        UUID taskId = seedTask();
+
+        Task task = entityManager.find(Task.class, taskId);
+        SelfDirtinessTracker tracker = (SelfDirtinessTracker) task;
+        assertEquals("Enhanced", task.getTitle());
+        assertFalse(tracker.$$_hibernate_hasDirtyAttributes());
+
+        task.setTitle("Tracked");
+        assertArrayEquals(new String[] {"title"}, tracker.$$_hibernate_getDirtyAttributes());
+
+        entityManager.flush();
+        assertFalse(tracker.$$_hibernate_hasDirtyAttributes());
+        assertEquals("Tracked", jdbcTemplate.queryForObject(
+                "SELECT title FROM tasks WHERE id = ?", String.class, taskId));
+    }
+
+    @Test
+    void loadedTask_SetToSameValue_StaysClean() {
+        UUID taskId = seedTask();
+
+        Task task = entityManager.find(Task.class, taskId);
+        task.setTitle("Enhanced");
+
+        assertFalse(((SelfDirtinessTracker) task).$$_hibernate_hasDirtyAttributes());
+    }
+
+    // Rows written straight to the database, so the task is loaded rather than
+    // taken from a persist
+    private UUID seedTask() {
+        UUID tenantId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, name) VALUES (?, 'Enhancement')", tenantId);
+        jdbcTemplate.update("INSERT INTO users (id, tenant_id, email, password, first_name, last_name) "
+                + "VALUES (?, ?, ?, 'x', 'Enhance', 'Ment')", userId, tenantId, userId + "@enhancement.test");
+        jdbcTemplate.update("INSERT INTO projects (id, tenant_id, name, created_by) VALUES (?, ?, 'Enhancement', ?)",
+                projectId, tenantId, userId);
+        jdbcTemplate.update("INSERT INTO tasks (id, tenant_id, project_id, title, created_by) "
+                + "VALUES (?, ?, ?, 'Enhanced', ?)", taskId, tenantId, projectId, userId);
+        return taskId;
+    }
+}
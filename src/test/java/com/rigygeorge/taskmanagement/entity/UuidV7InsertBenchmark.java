@@ -0,0 +1,78 @@
+package com.rigygeorge.taskmanagement.entity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Insert throughput and primary-key index size for random (v4) against
+ * time-ordered (v7, {@link UuidV7}) keys. Each key type fills its own table
+ * of task-sized rows in committed batches, the way the bulk endpoints write;
+ * v4 keys land on random index pages and split them, v7 keys append at the
+ * right-hand edge.
+ *
+ * <p>Not part of the regular build (the class name does not match the
+ * surefire includes); run it on its own against a real database with
+ * {@code mvn test -Dtest=UuidV7InsertBenchmark}. The difference grows once
+ * the index no longer fits in shared_buffers. The tables are dropped
+ * afterwards.
+ */
+@SpringBootTest
+class UuidV7InsertBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS uuid_benchmark_v4, uuid_benchmark_v7");
+    }
+
+    @Test
+    void insertV4AgainstV7Keys() {
+        Result v4 = insert("uuid_benchmark_v4", UUID::randomUUID);
+        Result v7 = insert("uuid_benchmark_v7", UuidV7::next);
+
+        System.out.printf("%,d rows: v4 %,d rows/s, primary key index %,d bytes; "
+                        + "v7 %,d rows/s, primary key index %,d bytes%n",
+                ROWS, v4.rowsPerSecond, v4.indexBytes, v7.rowsPerSecond, v7.indexBytes);
+    }
+
+    private Result insert(String table, Supplier<UUID> ids) {
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        String sql = "INSERT INTO " + table + " (id, title) VALUES (?, ?)";
+
+        long start = System.nanoTime();
+        for (int from = 0; from < ROWS; from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < from + BATCH_SIZE; i++) {
+                batch.add(new Object[] {ids.get(), "Task " + i});
+            }
+            // Auto-commit: one transaction per batch
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        long nanos = System.nanoTime() - start;
+
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+        assertEquals(ROWS, count);
+        Long indexBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_relation_size(?::regclass)", Long.class, table + "_pkey");
+        return new Result(ROWS * 1_000_000_000L / nanos, indexBytes);
+    }
+
+    private record Result(long rowsPerSecond, long indexBytes) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.rigygeorge.taskmanagement.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void next_HasVersion7AndRfcVariant() {
+        UUID id = UuidV7.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void next_EmbedsCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before, "timestamp before generation");
+        // The counter may carry a little ahead of the clock under heavy load
+        assertTrue(millis <= after + 1000, "timestamp too far ahead");
+    }
+
+    @Test
+    void next_IsStrictlyIncreasingInDatabaseOrder() {
+        // Lowercase hex strings sort the same way PostgreSQL compares uuid bytes
+        String previous = UuidV7.next().toString();
+        for (int i = 0; i < 200_000; i++) {
+            String current = UuidV7.next().toString();
+            assertTrue(current.compareTo(previous) > 0, previous + " >= " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void next_ConcurrentCallers_NeverCollide() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(160_000, ids.size());
+    }
+}
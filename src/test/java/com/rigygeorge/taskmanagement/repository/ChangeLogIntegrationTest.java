@@ -0,0 +1,124 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The change log triggers across concurrent, committed transactions, which the
+ * rolled-back MockMvc tests cannot show. Each test works in its own tenant and
+ * removes it afterwards.
+ */
+@SpringBootTest
+class ChangeLogIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO tenants (id, name) VALUES (?, 'Change Log')", tenantId);
+        jdbcTemplate.update("INSERT INTO users (id, tenant_id, email, password, first_name, last_name) "
+                + "VALUES (?, ?, ?, 'x', 'Change', 'Log')", userId, tenantId, userId + "@changelog.test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM change_log WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM tenant_change_seq WHERE tenant_id = ?", tenantId);
+    }
+
+    @Test
+    void writes_OpenTransactionOfSameTenant_DoesNotBlockAnother() throws SQLException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        try (Connection open = dataSource.getConnection(); Connection other = dataSource.getConnection()) {
+            open.setAutoCommit(false);
+            other.setAutoCommit(false);
+            insertProject(open, first);
+
+            // Used to wait for the open transaction's lock on the tenant's sequence row
+            try (Statement statement = other.createStatement()) {
+                statement.execute("SET LOCAL lock_timeout = '2s'");
+            }
+            insertProject(other, second);
+            other.commit();
+            open.commit();
+        }
+
+        // Numbered in commit order, not in the order the rows were written
+        assertTrue(seqOf(second) < seqOf(first));
+        assertEquals(seqOf(first), jdbcTemplate.queryForObject(
+                "SELECT last_seq FROM tenant_change_seq WHERE tenant_id = ?", Long.class, tenantId));
+    }
+
+    @Test
+    void writes_SameEntityTwiceInOneTransaction_RecordsLastChangeOnce() throws SQLException {
+        UUID project = UUID.randomUUID();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insertProject(connection, project);
+            try (PreparedStatement statement = connection.prepareStatement("DELETE FROM projects WHERE id = ?")) {
+                statement.setObject(1, project);
+                statement.executeUpdate();
+            }
+            connection.commit();
+        }
+
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT deleted FROM change_log WHERE entity_id = ?", Boolean.class, project));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT last_seq FROM tenant_change_seq WHERE tenant_id = ?", Long.class, tenantId));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM change_log_pending WHERE tenant_id = ?", Integer.class, tenantId));
+    }
+
+    @Test
+    void writes_RolledBack_RecordNothing() throws SQLException {
+        UUID project = UUID.randomUUID();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insertProject(connection, project);
+            connection.rollback();
+        }
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM change_log WHERE tenant_id = ?", Integer.class, tenantId));
+    }
+
+    private void insertProject(Connection connection, UUID id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO projects (id, tenant_id, name, created_by) VALUES (?, ?, 'Project', ?)")) {
+            statement.setObject(1, id);
+            statement.setObject(2, tenantId);
+            statement.setObject(3, userId);
+            statement.executeUpdate();
+        }
+    }
+
+    private long seqOf(UUID entityId) {
+        return jdbcTemplate.queryForObject("SELECT seq FROM change_log WHERE entity_id = ?", Long.class, entityId);
+    }
+}
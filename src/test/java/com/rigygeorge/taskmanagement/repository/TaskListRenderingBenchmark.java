@@ -0,0 +1,140 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the two ways a task list can be rendered, at 10k and 100k rows:
+ * entities through the DTO mapping and Jackson, against PostgreSQL rendering
+ * the JSON itself (TaskJsonRepository) after an id-only page query.
+ *
+ * <p>Not part of the regular build (the class name does not match the
+ * surefire includes); run it on its own against a real database with
+ * {@code mvn test -Dtest=TaskListRenderingBenchmark}. The seeded rows are
+ * rolled back afterwards.
+ */
+@SpringBootTest
+@Transactional
+class TaskListRenderingBenchmark {
+
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskJsonRepository taskJsonRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // Jackson 3 with its defaults, which is what the HTTP layer serializes with
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void render10kTasks() {
+        compare(10_000);
+    }
+
+    @Test
+    void render100kTasks() {
+        compare(100_000);
+    }
+
+    private void compare(int rows) {
+        UUID tenantId = seed(rows);
+        TaskFilter filter = new TaskFilter();
+        Specification<Task> spec = TaskSpecifications.matching(tenantId, filter);
+        Sort sort = filter.toSort();
+
+        Supplier<byte[]> jackson = () -> {
+            // A cold persistence context each run, as in a request
+            entityManager.clear();
+            List<TaskResponse> tasks = taskRepository.findAll(spec, sort).stream()
+                    .map(TaskListRenderingBenchmark::toResponse)
+                    .toList();
+            return jsonMapper.writeValueAsBytes(tasks);
+        };
+        Supplier<byte[]> database = () -> {
+            List<UUID> ids = taskRepository.findResponses(spec, sort, rows, Set.of("id", "createdAt")).stream()
+                    .map(TaskResponse::getId)
+                    .toList();
+            return taskJsonRepository.renderTasks(tenantId, ids);
+        };
+
+        Result viaJackson = measure(jackson);
+        Result viaDatabase = measure(database);
+        assertEquals(rows, jsonMapper.readTree(viaDatabase.body).size());
+
+        System.out.printf("%,d tasks: entity -> DTO -> Jackson %d ms (%,d bytes), database JSON %d ms (%,d bytes)%n",
+                rows, viaJackson.millis, viaJackson.body.length, viaDatabase.millis, viaDatabase.body.length);
+    }
+
+    // Median of the measured runs, after the JIT and the database caches have warmed up
+    private Result measure(Supplier<byte[]> render) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            render.get();
+        }
+        long[] millis = new long[MEASURED_RUNS];
+        byte[] body = null;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            body = render.get();
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        return new Result(millis[MEASURED_RUNS / 2], body);
+    }
+
+    private UUID seed(int rows) {
+        UUID tenantId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, name) VALUES (?, 'Benchmark')", tenantId);
+        jdbcTemplate.update("INSERT INTO users (id, tenant_id, email, password, first_name, last_name) "
+                + "VALUES (?, ?, ?, 'x', 'Bench', 'Mark')", userId, tenantId, userId + "@benchmark.test");
+        jdbcTemplate.update("INSERT INTO projects (id, tenant_id, name, created_by) VALUES (?, ?, 'Benchmark', ?)",
+                projectId, tenantId, userId);
+        jdbcTemplate.update("INSERT INTO tasks (tenant_id, project_id, title, description, status, priority, "
+                + "assigned_to, created_by, due_date, created_at, updated_at) "
+                + "SELECT ?, ?, 'Task ' || n, repeat('Description of task ' || n || '. ', 4), "
+                + "(ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[n % 3 + 1], (ARRAY['LOW', 'MEDIUM', 'HIGH'])[n % 3 + 1], "
+                + "CASE WHEN n % 2 = 0 THEN ? END, ?, CASE WHEN n % 4 = 0 THEN now() + n * interval '1 minute' END, "
+                + "now() - n * interval '1 second', now() "
+                + "FROM generate_series(1, ?) AS n",
+                tenantId, projectId, userId, userId, rows);
+        jdbcTemplate.execute("ANALYZE tasks");
+        return tenantId;
+    }
+
+    private static TaskResponse toResponse(Task task) {
+        return new TaskResponse(task.getId(), task.getProjectId(), task.getTitle(), task.getDescription(),
+                task.getStatus(), task.getPriority(), task.getAssignedTo(), task.getCreatedBy(),
+                task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    private record Result(long millis, byte[] body) {
+    }
+}
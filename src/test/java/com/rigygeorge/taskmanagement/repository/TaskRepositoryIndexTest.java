@@ -0,0 +1,164 @@
+package com.rigygeorge.taskmanagement.repository;
+
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
+import com.rigygeorge.taskmanagement.entity.Task;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that every combination of GET /api/tasks filters can be answered
+ * from an index. The SQL is what Hibernate emits for
+ * {@link TaskSpecifications} through {@link TaskRepository#findResponses},
+ * captured by a statement inspector and explained as a generic plan, so the
+ * test follows the queries the application actually runs. Sequential scans
+ * are disabled for the transaction, so the planner only falls back to one
+ * when no index applies to the query shape.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.rigygeorge.taskmanagement.repository.TaskRepositoryIndexTest$CapturingStatementInspector")
+@Transactional
+class TaskRepositoryIndexTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        // Plan without parameter values, as for any tenant and filter value
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+    }
+
+    @Test
+    void everyEqualityFilterCombination_UsesAnIndex() {
+        List<Consumer<TaskFilter>> filters = List.of(
+                filter -> filter.setStatus(Task.TaskStatus.TODO),
+                filter -> filter.setPriority(Task.TaskPriority.HIGH),
+                filter -> filter.setProjectId(UUID.randomUUID()),
+                filter -> filter.setAssigneeId(UUID.randomUUID()));
+
+        for (int mask = 0; mask < (1 << filters.size()); mask++) {
+            TaskFilter filter = new TaskFilter();
+            for (int i = 0; i < filters.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    filters.get(i).accept(filter);
+                }
+            }
+            assertUsesIndex(filter, null);
+        }
+    }
+
+    @Test
+    void dateRangeFilters_UseAnIndex() {
+        Instant now = Instant.now();
+
+        TaskFilter dueThisWeek = new TaskFilter();
+        dueThisWeek.setDueAfter(now);
+        dueThisWeek.setDueBefore(now.plus(7, ChronoUnit.DAYS));
+        dueThisWeek.setSortBy(TaskFilter.SortField.DUE_DATE);
+        dueThisWeek.setDirection(Sort.Direction.ASC);
+        assertUsesIndex(dueThisWeek, null);
+
+        TaskFilter createdRecently = new TaskFilter();
+        createdRecently.setCreatedAfter(now.minus(30, ChronoUnit.DAYS));
+        assertUsesIndex(createdRecently, null);
+
+        TaskFilter doneBeforeNow = new TaskFilter();
+        doneBeforeNow.setStatus(Task.TaskStatus.DONE);
+        doneBeforeNow.setCreatedBefore(now);
+        assertUsesIndex(doneBeforeNow, null);
+    }
+
+    @Test
+    void everySortKey_FirstAndLaterPages_UseAnIndex() {
+        for (TaskFilter.SortField sortBy : TaskFilter.SortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                TaskFilter filter = new TaskFilter();
+                filter.setSortBy(sortBy);
+                filter.setDirection(direction);
+
+                String value = sortBy == TaskFilter.SortField.TITLE ? "Task" : Instant.now().toString();
+                PageCursor after = new PageCursor(TaskSpecifications.sortKey(filter), value, UUID.randomUUID());
+
+                assertUsesIndex(filter, null);
+                assertUsesIndex(filter, after);
+            }
+        }
+    }
+
+    private void assertUsesIndex(TaskFilter filter, PageCursor after) {
+        String sql = captureSql(filter, after);
+        String plan = explain(sql);
+
+        assertFalse(plan.contains("Seq Scan"), () -> "Sequential scan for " + sql + "\n" + plan);
+        assertTrue(plan.contains("Index"), () -> "No index used for " + sql + "\n" + plan);
+    }
+
+    private String captureSql(TaskFilter filter, PageCursor after) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        taskRepository.findResponses(TaskSpecifications.matching(tenantId, filter, after),
+                filter.toSort(), PageCursor.DEFAULT_LIMIT + 1, null);
+
+        List<String> statements = CapturingStatementInspector.STATEMENTS;
+        assertEquals(1, statements.size(), () -> "Expected one query, got " + statements);
+        return statements.get(0);
+    }
+
+    // EXPLAIN cannot take JDBC placeholders, so the query is prepared with
+    // numbered parameters and its generic plan explained with NULL arguments
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("PREPARE task_page AS " + numbered);
+        try {
+            String arguments = parameters == 0
+                    ? ""
+                    : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+            return String.join("\n",
+                    jdbcTemplate.queryForList("EXPLAIN EXECUTE task_page" + arguments, String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE task_page");
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.rigygeorge.taskmanagement.security;
+
+import com.rigygeorge.taskmanagement.entity.User;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+
+    @Test
+    void verify_ValidToken_ReturnsTypedClaims() {
+        UUID userId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        String token = jwtUtil.generateToken(userId, "jwt@test.com", "MANAGER", tenantId, 3);
+
+        JwtClaims claims = jwtUtil.verify(token);
+
+        assertEquals(userId, claims.getUserId());
+        assertEquals(tenantId, claims.getTenantId());
+        assertEquals("jwt@test.com", claims.getEmail());
+        assertEquals(User.Role.MANAGER, claims.getRole());
+        assertEquals(3, claims.getTokenVersion());
+    }
+
+    @Test
+    void verify_SameTokenTwice_ReturnsCachedClaims() {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "jwt@test.com", "MEMBER", UUID.randomUUID(), 0);
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_TamperedSignature_Throws() {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "jwt@test.com", "MEMBER", UUID.randomUUID(), 0);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+    }
+
+    @Test
+    void verify_TokenFromOtherKey_Throws() {
+        JwtUtil other = new JwtUtil(SECRET + "-other", 60_000, 100);
+        String token = other.generateToken(UUID.randomUUID(), "jwt@test.com", "MEMBER", UUID.randomUUID(), 0);
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_ExpiredToken_Throws() {
+        JwtUtil shortLived = new JwtUtil(SECRET, -1_000, 100);
+        String token = shortLived.generateToken(UUID.randomUUID(), "jwt@test.com", "MEMBER", UUID.randomUUID(), 0);
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token));
+    }
+}
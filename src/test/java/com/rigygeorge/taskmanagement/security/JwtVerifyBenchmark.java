@@ -0,0 +1,112 @@
+package com.rigygeorge.taskmanagement.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Per-request cost of authenticating a bearer token, the way
+ * JwtAuthenticationFilter did it before and after JwtUtil.verify: three
+ * parses that each rebuild the HMAC key and the parser (claims, then
+ * validateToken's subject and expiry), against one verify() call that either
+ * parses once with the cached parser (cache miss, a token not seen before)
+ * or answers from the verified-token cache (cache hit, a repeat request).
+ *
+ * <p>Not part of the regular build (the class name does not match the
+ * surefire includes); run it on its own with
+ * {@code mvn test -Dtest=JwtVerifyBenchmark}. No database is needed.
+ */
+class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hmac-sha-256";
+    private static final int TOKENS = 10_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 7;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void verifyTokens() {
+        String[] tokens = new String[TOKENS];
+        JwtUtil issuer = new JwtUtil(SECRET, 3_600_000, TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = issuer.generateToken(UUID.randomUUID(), "user" + i + "@benchmark.test", "MEMBER",
+                    UUID.randomUUID(), 0);
+        }
+
+        Result parsePerCall = measure(tokens, () -> JwtVerifyBenchmark::parsePerCall);
+        // A fresh cache per run, large enough to keep every token: each call is a first sighting
+        Result cacheMiss = measure(tokens, () -> new JwtUtil(SECRET, 3_600_000, TOKENS)::verify);
+        // One cache, already holding every token from the warmup runs
+        JwtUtil warm = new JwtUtil(SECRET, 3_600_000, TOKENS);
+        Result cacheHit = measure(tokens, () -> warm::verify);
+
+        System.out.printf("%,d tokens: parse per call %,d ns/token, %,d bytes/token; "
+                        + "verify() cache miss %,d ns/token, %,d bytes/token; "
+                        + "verify() cache hit %,d ns/token, %,d bytes/token%n",
+                TOKENS, parsePerCall.nanosPerToken, parsePerCall.bytesPerToken,
+                cacheMiss.nanosPerToken, cacheMiss.bytesPerToken,
+                cacheHit.nanosPerToken, cacheHit.bytesPerToken);
+    }
+
+    // Median time and allocation per token over the measured runs, after the
+    // JIT has warmed up; each run asks the supplier for a fresh verifier
+    private Result measure(String[] tokens, Supplier<Function<String, ?>> verifiers) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run(tokens, verifiers.get());
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        long[] allocated = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            Function<String, ?> verifier = verifiers.get();
+            long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            run(tokens, verifier);
+            nanos[i] = System.nanoTime() - start;
+            allocated[i] = THREADS.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(allocated);
+        return new Result(nanos[MEASURED_RUNS / 2] / TOKENS, allocated[MEASURED_RUNS / 2] / TOKENS);
+    }
+
+    private static void run(String[] tokens, Function<String, ?> verifier) {
+        for (String token : tokens) {
+            assertNotNull(verifier.apply(token));
+        }
+    }
+
+    // The filter's old database path: the claims for the subject, then
+    // validateToken parsing again for the username and once more for the expiry
+    private static Claims parsePerCall(String token) {
+        Claims claims = parse(token);
+        String username = parse(token).getSubject();
+        boolean expired = parse(token).getExpiration().before(new Date());
+        assertTrue(username.equals(claims.getSubject()) && !expired);
+        return claims;
+    }
+
+    // The old JwtUtil.extractAllClaims: a new key and parser on every call
+    private static Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private record Result(long nanosPerToken, long bytesPerToken) {
+    }
+}
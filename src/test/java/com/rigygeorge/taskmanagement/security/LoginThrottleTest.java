@@ -0,0 +1,106 @@
+package com.rigygeorge.taskmanagement.security;
+
+import com.rigygeorge.taskmanagement.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private final LoginThrottle throttle = new LoginThrottle(Duration.ofMinutes(15), 3, 5);
+
+    @Test
+    void checkAllowed_UnderLimit_Passes() {
+        throttle.recordFailure("user@test.com", "10.0.0.1");
+        throttle.recordFailure("user@test.com", "10.0.0.1");
+
+        assertDoesNotThrow(() -> throttle.checkAllowed("user@test.com", "10.0.0.1"));
+    }
+
+    @Test
+    void checkAllowed_EmailOverLimit_ThrowsWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("User@Test.com", "10.0.0." + i);
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+            () -> throttle.checkAllowed("user@test.com", "10.0.0.99"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertTrue(ex.getRetryAfterSeconds() <= Duration.ofMinutes(15).toSeconds());
+    }
+
+    @Test
+    void checkAllowed_IpOverLimit_ThrowsForAnyEmail() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("user" + i + "@test.com", "10.0.0.1");
+        }
+
+        assertThrows(TooManyRequestsException.class,
+            () -> throttle.checkAllowed("someone-else@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> throttle.checkAllowed("someone-else@test.com", "10.0.0.2"));
+    }
+
+    @Test
+    void recordSuccess_ClearsEmailHistory() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("user@test.com", "10.0.0." + i);
+        }
+
+        throttle.recordSuccess("user@test.com", "10.0.0.99");
+
+        assertDoesNotThrow(() -> throttle.checkAllowed("user@test.com", "10.0.0.99"));
+    }
+
+    @Test
+    void checkAllowed_ConcurrentAttempts_OnlyAsManyAsTheLimitPass() throws Exception {
+        int attempts = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < attempts; i++) {
+            int n = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    throttle.checkAllowed("user@test.com", "10.0.0." + n);
+                    allowed.incrementAndGet();
+                } catch (TooManyRequestsException | InterruptedException e) {
+                    // Turned away
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // None of the attempts has failed yet, but each holds a slot
+        assertEquals(3, allowed.get());
+    }
+
+    @Test
+    void release_AttemptWithoutVerdict_FreesItsSlot() {
+        for (int i = 0; i < 3; i++) {
+            throttle.checkAllowed("user@test.com", "10.0.0.1");
+            throttle.release("user@test.com", "10.0.0.1");
+        }
+
+        assertDoesNotThrow(() -> throttle.checkAllowed("user@test.com", "10.0.0.1"));
+    }
+
+    @Test
+    void checkAllowed_FailuresOutsideWindow_AreForgotten() throws Exception {
+        LoginThrottle shortWindow = new LoginThrottle(Duration.ofMillis(50), 1, 10);
+        shortWindow.recordFailure("user@test.com", "10.0.0.1");
+
+        Thread.sleep(100);
+
+        assertDoesNotThrow(() -> shortWindow.checkAllowed("user@test.com", "10.0.0.1"));
+    }
+}
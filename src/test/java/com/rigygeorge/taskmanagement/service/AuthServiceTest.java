@@ -4,10 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,16 +21,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.rigygeorge.taskmanagement.dto.AuthResponse;
+import com.rigygeorge.taskmanagement.dto.LoginRequest;
 import com.rigygeorge.taskmanagement.dto.RegisterRequest;
 import com.rigygeorge.taskmanagement.entity.Tenant;
 import com.rigygeorge.taskmanagement.entity.User;
 import com.rigygeorge.taskmanagement.exception.ResourceAlreadyExistsException;
+import com.rigygeorge.taskmanagement.exception.TooManyRequestsException;
 import com.rigygeorge.taskmanagement.repository.TenantRepository;
 import com.rigygeorge.taskmanagement.repository.UserRepository;
 import com.rigygeorge.taskmanagement.security.JwtUtil;
+import com.rigygeorge.taskmanagement.security.LoginThrottle;
+import com.rigygeorge.taskmanagement.security.PasswordHashingService;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -42,6 +52,15 @@ public class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
     
+    @Mock
+    private PasswordHashingService passwordHasher;
+    
+    @Mock
+    private LoginThrottle loginThrottle;
+    
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+    
     @InjectMocks
     private AuthService authService;
     
@@ -77,9 +96,9 @@ public class AuthServiceTest {
         // Arrange
         when(userRepository.existsByEmail(registerRequest.getEmail())).thenReturn(false);
         when(tenantRepository.save(any(Tenant.class))).thenReturn(tenant);
-        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encoded_password");
+        when(passwordHasher.encode(registerRequest.getPassword())).thenReturn("encoded_password");
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(jwtUtil.generateToken(any(), any(), any(), any())).thenReturn("jwt_token");
+        when(jwtUtil.generateToken(any(), any(), any(), any(), anyInt())).thenReturn("jwt_token");
         
         // Act
         AuthResponse response = authService.register(registerRequest);
@@ -110,4 +129,89 @@ public class AuthServiceTest {
         verify(userRepository, never()).save(any());
     }
     
+    // ============== LOGIN TESTS ==============
+    
+    @Test
+    void login_ValidCredentials_LooksUpUserOnce() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password123", "encoded_password")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encoded_password")).thenReturn(false);
+        when(jwtUtil.generateToken(any(), any(), any(), any(), anyInt())).thenReturn("jwt_token");
+        
+        // Act
+        AuthResponse response = authService.login(loginRequest("password123"), "10.0.0.1");
+        
+        // Assert
+        assertEquals("jwt_token", response.getToken());
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+        verify(loginThrottle).recordSuccess("test@example.com", "10.0.0.1");
+        verify(userRepository, never()).save(any());
+    }
+    
+    @Test
+    void login_WrongPassword_RecordsFailure() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("wrong", "encoded_password")).thenReturn(false);
+        
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> {
+            authService.login(loginRequest("wrong"), "10.0.0.1");
+        });
+        verify(loginThrottle).recordFailure("test@example.com", "10.0.0.1");
+    }
+    
+    @Test
+    void login_UnknownEmail_StillSpendsHashingCost() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(passwordHasher.matchesDummy("password123")).thenReturn(false);
+        
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> {
+            authService.login(loginRequest("password123"), "10.0.0.1");
+        });
+        verify(passwordHasher).matchesDummy("password123");
+        verify(loginThrottle).recordFailure("test@example.com", "10.0.0.1");
+    }
+    
+    @Test
+    void login_Throttled_DoesNotHash() {
+        // Arrange
+        doThrow(new TooManyRequestsException("Too many failed login attempts", 60))
+            .when(loginThrottle).checkAllowed("test@example.com", "10.0.0.1");
+        
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> {
+            authService.login(loginRequest("password123"), "10.0.0.1");
+        });
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordHasher, never()).matches(any(), any());
+    }
+    
+    @Test
+    void login_OutdatedHashCost_RehashesPassword() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password123", "encoded_password")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encoded_password")).thenReturn(true);
+        when(passwordHasher.encode("password123")).thenReturn("rehashed_password");
+        when(userRepository.save(user)).thenReturn(user);
+        when(jwtUtil.generateToken(any(), any(), any(), any(), anyInt())).thenReturn("jwt_token");
+        
+        // Act
+        authService.login(loginRequest("password123"), "10.0.0.1");
+        
+        // Assert
+        assertEquals("rehashed_password", user.getPassword());
+        verify(userRepository).save(user);
+    }
+    
+    private LoginRequest loginRequest(String password) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail("test@example.com");
+        request.setPassword(password);
+        return request;
+    }
 }
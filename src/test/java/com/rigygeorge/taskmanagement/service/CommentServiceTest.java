@@ -10,16 +10,17 @@ import com.rigygeorge.taskmanagement.repository.CommentRepository;
 import com.rigygeorge.taskmanagement.repository.TaskRepository;
 import com.rigygeorge.taskmanagement.repository.UserRepository;
 import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -43,13 +44,18 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+    
+    @Mock
+    private TaskEventHub taskEventHub;
+    
     @Mock
     private SecurityContext securityContext;
     
     @Mock
     private Authentication authentication;
     
-    @InjectMocks
     private CommentService commentService;
     
     private CustomUserDetails currentUser;
@@ -134,12 +140,38 @@ class CommentServiceTest {
         comment.setCreatedAt(Instant.now());
         comment.setUpdatedAt(Instant.now());
         
+        // A real cache over the mocked repository, so batching and caching are exercised
+        commentService = new CommentService(commentRepository, taskRepository,
+            new UserDisplayNameCache(userRepository, Duration.ofMinutes(10), 100), new TenantGenerations(),
+            entityChangePublisher, taskEventHub);
+        
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
     }
     
+    // The mocked context is thread-local and would leak into later test classes
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+    
     // ============== MULTI-TENANCY TESTS ==============
     
+    @Test
+    void deleteComment_AdminOfOtherTenant_ThrowsResourceNotFoundException() {
+        // Arrange: An ADMIN of another tenant tries to delete a tenant A comment
+        when(authentication.getPrincipal()).thenReturn(otherTenantUser);
+        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> {
+            commentService.deleteComment(commentId);
+        });
+        
+        verify(commentRepository, never()).delete(any());
+        verifyNoInteractions(entityChangePublisher, taskEventHub);
+    }
+    
     @Test
     void createComment_CrossTenantTask_ThrowsResourceNotFoundException() {
         // Arrange: User from Tenant B tries to comment on Tenant A's task
@@ -190,7 +222,7 @@ class CommentServiceTest {
         
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
-            commentService.getCommentsByTask(taskId);
+            commentService.getCommentsByTask(taskId, null, 50, null);
         });
     }
     
@@ -216,6 +248,7 @@ class CommentServiceTest {
         
         Comment otherUsersComment = new Comment();
         otherUsersComment.setId(commentId);
+        otherUsersComment.setTenantId(tenantId);
         otherUsersComment.setUserId(currentUser.getId()); // Different owner
         
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(otherUsersComment));
@@ -236,6 +269,7 @@ class CommentServiceTest {
         
         Comment someUsersComment = new Comment();
         someUsersComment.setId(commentId);
+        someUsersComment.setTenantId(tenantId);
         someUsersComment.setUserId(currentUser.getId()); // Someone else's comment
         
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(someUsersComment));
@@ -299,12 +333,12 @@ class CommentServiceTest {
         comment2.setContent("Second");
         comment2.setCreatedAt(Instant.now().minusSeconds(3600));
         
-        when(commentRepository.findByTaskIdOrderByCreatedAtDesc(taskId))
-            .thenReturn(Arrays.asList(comment2, comment1)); // Newest first
-        when(userRepository.findById(currentUser.getId())).thenReturn(Optional.of(userEntity));
+        when(commentRepository.findResponses(taskId, null, 51, null))
+            .thenReturn(Arrays.asList(row(comment2), row(comment1))); // Newest first
+        when(userRepository.findAllById(any())).thenReturn(List.of(userEntity));
         
         // Act
-        List<CommentResponse> result = commentService.getCommentsByTask(taskId);
+        List<CommentResponse> result = commentService.getCommentsByTask(taskId, null, 50, null).getItems();
         
         // Assert
         assertNotNull(result);
@@ -325,12 +359,12 @@ class CommentServiceTest {
         orphanComment.setContent("Orphan comment");
         orphanComment.setCreatedAt(Instant.now());
         
-        when(commentRepository.findByTaskIdOrderByCreatedAtDesc(taskId))
-            .thenReturn(Arrays.asList(orphanComment));
-        when(userRepository.findById(any())).thenReturn(Optional.empty());
+        when(commentRepository.findResponses(taskId, null, 51, null))
+            .thenReturn(Arrays.asList(row(orphanComment)));
+        when(userRepository.findAllById(any())).thenReturn(List.of());
         
         // Act
-        List<CommentResponse> result = commentService.getCommentsByTask(taskId);
+        List<CommentResponse> result = commentService.getCommentsByTask(taskId, null, 50, null).getItems();
         
         // Assert
         assertNotNull(result);
@@ -339,19 +373,87 @@ class CommentServiceTest {
         assertEquals("Unknown", result.get(0).getUserName());
     }
     
+    @Test
+    void getCommentsByTask_ManyComments_ResolvesAuthorsInOneBatchedLookup() {
+        when(authentication.getPrincipal()).thenReturn(currentUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        
+        User otherEntity = new User();
+        otherEntity.setId(otherUser.getId());
+        otherEntity.setTenantId(tenantId);
+        otherEntity.setEmail("other@test.com");
+        otherEntity.setFirstName("Other");
+        otherEntity.setLastName("User");
+        
+        List<CommentResponse> rows = new java.util.ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Comment c = new Comment();
+            c.setId(UUID.randomUUID());
+            c.setUserId(i % 2 == 0 ? currentUser.getId() : otherUser.getId());
+            c.setContent("Comment " + i);
+            c.setCreatedAt(Instant.now().minusSeconds(i));
+            rows.add(row(c));
+        }
+        when(commentRepository.findResponses(taskId, null, 51, null)).thenReturn(rows);
+        when(userRepository.findAllById(any())).thenReturn(List.of(userEntity, otherEntity));
+        
+        List<CommentResponse> result = commentService.getCommentsByTask(taskId, null, 50, null).getItems();
+        // Second page view is served from the display-name cache
+        commentService.getCommentsByTask(taskId, null, 50, null);
+        
+        assertEquals(40, result.size());
+        assertEquals("Test User", result.get(0).getUserName());
+        assertEquals("other@test.com", result.get(1).getUserEmail());
+        verify(userRepository, times(1)).findAllById(any());
+        verify(userRepository, never()).findById(any());
+    }
+    
+    @Test
+    void getCommentsByTask_AuthorFromOtherTenant_ReturnsUnknown() {
+        when(authentication.getPrincipal()).thenReturn(currentUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        
+        User foreignEntity = new User();
+        foreignEntity.setId(otherTenantUser.getId());
+        foreignEntity.setTenantId(otherTenantId);
+        foreignEntity.setEmail("hacker@test.com");
+        foreignEntity.setFirstName("Hacker");
+        foreignEntity.setLastName("User");
+        
+        Comment foreignComment = new Comment();
+        foreignComment.setId(UUID.randomUUID());
+        foreignComment.setUserId(otherTenantUser.getId());
+        foreignComment.setContent("Comment");
+        foreignComment.setCreatedAt(Instant.now());
+        
+        when(commentRepository.findResponses(taskId, null, 51, null))
+            .thenReturn(List.of(row(foreignComment)));
+        when(userRepository.findAllById(any())).thenReturn(List.of(foreignEntity));
+        
+        List<CommentResponse> result = commentService.getCommentsByTask(taskId, null, 50, null).getItems();
+        
+        assertEquals("Unknown", result.get(0).getUserEmail());
+    }
+    
     @Test
     void getCommentsByTask_EmptyList_ReturnsEmptyList() {
         // Arrange
         when(authentication.getPrincipal()).thenReturn(currentUser);
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(commentRepository.findByTaskIdOrderByCreatedAtDesc(taskId))
-            .thenReturn(Arrays.asList());
+        when(commentRepository.findResponses(taskId, null, 51, null))
+            .thenReturn(Arrays.<CommentResponse>asList());
         
         // Act
-        List<CommentResponse> result = commentService.getCommentsByTask(taskId);
+        List<CommentResponse> result = commentService.getCommentsByTask(taskId, null, 50, null).getItems();
         
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
-}
\ No newline at end of file
+    
+    // List queries project straight into responses, so their stubs return rows, not entities
+    private CommentResponse row(Comment comment) {
+        return new CommentResponse(comment.getId(), taskId, comment.getUserId(), comment.getContent(),
+            comment.getCreatedAt(), comment.getUpdatedAt());
+    }
+}
@@ -0,0 +1,129 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
+import com.rigygeorge.taskmanagement.entity.Project;
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.security.PrincipalCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EntityChangeSubscriberTest {
+
+    @Mock
+    private EntityChangePublisher publisher;
+
+    @Mock
+    private UserDisplayNameCache displayNameCache;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TaskEventHub taskEventHub;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private TenantGenerations tenantGenerations;
+    private EntityChangeSubscriber subscriber;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        tenantGenerations = new TenantGenerations();
+        // Disabled: no listener thread, only the notification handling is exercised
+        subscriber = new EntityChangeSubscriber(publisher, tenantGenerations, displayNameCache, principalCache,
+            taskEventHub, entityManagerFactory, "jdbc:postgresql://unused", "unused", "unused", false, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void payload_RoundTrips() {
+        UUID projectId = UUID.randomUUID();
+        EntityChangeEvent event = new EntityChangeEvent(
+            EntityChangeEvent.EntityType.PROJECT, projectId, tenantId, "node-1");
+
+        EntityChangeEvent parsed = EntityChangeEvent.fromPayload(event.toPayload());
+
+        assertEquals(EntityChangeEvent.EntityType.PROJECT, parsed.getEntityType());
+        assertEquals(projectId, parsed.getEntityId());
+        assertEquals(tenantId, parsed.getTenantId());
+        assertEquals("node-1", parsed.getOrigin());
+    }
+
+    @Test
+    void handle_ProjectChangeFromOtherNode_BumpsGenerationAndEvictsEntity() {
+        when(publisher.getNodeId()).thenReturn("this-node");
+        UUID projectId = UUID.randomUUID();
+
+        subscriber.handle(new EntityChangeEvent(
+            EntityChangeEvent.EntityType.PROJECT, projectId, tenantId, "other-node").toPayload());
+
+        assertEquals(1, tenantGenerations.current(tenantId));
+        verify(secondLevelCache).evictEntityData(Project.class, projectId);
+        verify(secondLevelCache).evictDefaultQueryRegion();
+    }
+
+    @Test
+    void handle_UserChangeFromOtherNode_EvictsUserCaches() {
+        when(publisher.getNodeId()).thenReturn("this-node");
+        UUID userId = UUID.randomUUID();
+
+        subscriber.handle(new EntityChangeEvent(
+            EntityChangeEvent.EntityType.USER, userId, tenantId, "other-node").toPayload());
+
+        verify(secondLevelCache).evictEntityData(User.class, userId);
+        verify(principalCache).evict(userId);
+        verify(displayNameCache).evict(tenantId, userId);
+        assertEquals(0, tenantGenerations.current(tenantId));
+    }
+
+    @Test
+    void handle_BulkTaskChange_BumpsGeneration() {
+        when(publisher.getNodeId()).thenReturn("this-node");
+
+        subscriber.handle(new EntityChangeEvent(
+            EntityChangeEvent.EntityType.TASK, null, tenantId, "other-node").toPayload());
+
+        assertEquals(1, tenantGenerations.current(tenantId));
+        verify(taskEventHub).publish(eq(tenantId), argThat(e -> e.getType() == TaskStreamEvent.Type.TASKS_CHANGED));
+    }
+
+    @Test
+    void handle_OwnEvent_IsIgnored() {
+        when(publisher.getNodeId()).thenReturn("this-node");
+
+        subscriber.handle(new EntityChangeEvent(
+            EntityChangeEvent.EntityType.TASK, UUID.randomUUID(), tenantId, "this-node").toPayload());
+
+        assertEquals(0, tenantGenerations.current(tenantId));
+        verifyNoInteractions(secondLevelCache);
+    }
+
+    @Test
+    void handle_MalformedPayload_IsIgnored() {
+        assertDoesNotThrow(() -> subscriber.handle("garbage"));
+        verifyNoInteractions(secondLevelCache, principalCache, displayNameCache);
+    }
+}
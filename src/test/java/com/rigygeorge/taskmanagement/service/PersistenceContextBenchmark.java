@@ -0,0 +1,149 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CPU time and heap allocation per transaction for the entity paths the
+ * services take: loading a 100-task page in a read-write against a read-only
+ * transaction (snapshots and the flush-time dirty check), and loading and
+ * updating a single task.
+ *
+ * <p>Not part of the regular build (the class name does not match the
+ * surefire includes); run it on its own against a real database, once with
+ * the bytecode-enhanced entities and once without:
+ * {@code mvn test -Dtest=PersistenceContextBenchmark} and
+ * {@code mvn clean test -DskipEnhance -Dtest=PersistenceContextBenchmark}.
+ * The seeded tenant is deleted afterwards.
+ */
+@SpringBootTest
+class PersistenceContextBenchmark {
+
+    private static final int WARMUP_RUNS = 2_000;
+    private static final int MEASURED_RUNS = 500;
+    private static final int TASKS = 100;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void seed() {
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, name) VALUES (?, 'Benchmark')", tenantId);
+        jdbcTemplate.update("INSERT INTO users (id, tenant_id, email, password, first_name, last_name) "
+                + "VALUES (?, ?, ?, 'x', 'Bench', 'Mark')", userId, tenantId, userId + "@benchmark.test");
+        jdbcTemplate.update("INSERT INTO projects (id, tenant_id, name, created_by) VALUES (?, ?, 'Benchmark', ?)",
+                projectId, tenantId, userId);
+        jdbcTemplate.update("INSERT INTO tasks (tenant_id, project_id, title, description, status, priority, "
+                + "created_by, created_at, updated_at) "
+                + "SELECT ?, ?, 'Task ' || n, repeat('Description of task ' || n || '. ', 20), 'TODO', 'MEDIUM', "
+                + "?, now(), now() FROM generate_series(1, ?) AS n",
+                tenantId, projectId, userId, TASKS);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Everything else cascades from the tenant
+        jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM change_log WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM tenant_change_seq WHERE tenant_id = ?", tenantId);
+    }
+
+    @Test
+    void loadTaskPage() {
+        Result readWrite = measure(transaction(false), this::readPage);
+        Result readOnly = measure(transaction(true), this::readPage);
+
+        System.out.printf("%d tasks (%s): read-write transaction %,d us CPU, %,d bytes allocated; "
+                        + "read-only %,d us CPU, %,d bytes allocated%n",
+                TASKS, entities(), readWrite.micros, readWrite.allocated, readOnly.micros, readOnly.allocated);
+    }
+
+    @Test
+    void updateTask() {
+        UUID taskId = taskRepository.findByProjectId(projectId).get(0).getId();
+        int[] run = {0};
+
+        Result update = measure(transaction(false), () -> {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            task.setTitle("Updated " + run[0]++);
+            return task.getTitle().length();
+        });
+
+        System.out.printf("Load and update one task (%s): %,d us CPU, %,d bytes allocated%n",
+                entities(), update.micros, update.allocated);
+    }
+
+    // Touches every column a TaskResponse is built from
+    private int readPage() {
+        List<Task> tasks = taskRepository.findByProjectId(projectId);
+        assertEquals(TASKS, tasks.size());
+        int length = 0;
+        for (Task task : tasks) {
+            length += task.getTitle().length() + task.getDescription().length();
+        }
+        return length;
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction;
+    }
+
+    private static String entities() {
+        return PersistentAttributeInterceptable.class.isAssignableFrom(Task.class) ? "enhanced" : "not enhanced";
+    }
+
+    // Median CPU time and allocation of the measured runs, each a whole
+    // transaction including the commit, after the JIT has warmed up
+    private static Result measure(TransactionTemplate transaction, IntSupplier work) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            transaction.execute(status -> work.getAsInt());
+        }
+        long[] micros = new long[MEASURED_RUNS];
+        long[] allocated = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = THREADS.getCurrentThreadCpuTime();
+            transaction.execute(status -> work.getAsInt());
+            micros[i] = (THREADS.getCurrentThreadCpuTime() - start) / 1_000;
+            allocated[i] = THREADS.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        Arrays.sort(micros);
+        Arrays.sort(allocated);
+        return new Result(micros[MEASURED_RUNS / 2], allocated[MEASURED_RUNS / 2]);
+    }
+
+    private record Result(long micros, long allocated) {
+    }
+}
@@ -1,22 +1,27 @@
 package com.rigygeorge.taskmanagement.service;
 
 import com.rigygeorge.taskmanagement.dto.CreateProjectRequest;
+import com.rigygeorge.taskmanagement.dto.CursorPage;
+import com.rigygeorge.taskmanagement.dto.PageCursor;
 import com.rigygeorge.taskmanagement.dto.ProjectResponse;
 import com.rigygeorge.taskmanagement.entity.Project;
 import com.rigygeorge.taskmanagement.entity.User;
 import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
 import com.rigygeorge.taskmanagement.repository.ProjectRepository;
 import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -32,15 +37,19 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+    
     @Mock
     private SecurityContext securityContext;
     
     @Mock
     private Authentication authentication;
     
-    @InjectMocks
     private ProjectService projectService;
     
+    private TenantGenerations tenantGenerations;
+    
     private CustomUserDetails currentUser;
     private Project project;
     private UUID tenantId;
@@ -71,6 +80,18 @@ class ProjectServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(currentUser);
         SecurityContextHolder.setContext(securityContext);
+        
+        // Real generation counter and response cache, so cache hits and invalidation are exercised
+        tenantGenerations = new TenantGenerations();
+        projectService = new ProjectService(projectRepository, tenantGenerations,
+            new ResponseCache(tenantGenerations, true, DataSize.ofMegabytes(1), Duration.ofMinutes(1)),
+            entityChangePublisher);
+    }
+    
+    // The mocked context is thread-local and would leak into later test classes
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
     }
     
     @Test
@@ -94,16 +115,37 @@ class ProjectServiceTest {
     @Test
     void getAllProjects_ReturnsUserProjects() {
         // Arrange
-        List<Project> projects = Arrays.asList(project);
-        when(projectRepository.findByTenantId(tenantId)).thenReturn(projects);
+        List<ProjectResponse> projects = Arrays.asList(projectRow());
+        when(projectRepository.findResponses(tenantId, null, 51, null)).thenReturn(projects);
         
         // Act
-        List<ProjectResponse> response = projectService.getAllProjects();
+        CursorPage<ProjectResponse> response = projectService.getAllProjects(null, 50, null);
         
         // Assert
         assertNotNull(response);
-        assertEquals(1, response.size());
-        verify(projectRepository).findByTenantId(tenantId);
+        assertEquals(1, response.getItems().size());
+        assertNull(response.getNextCursor());
+        verify(projectRepository).findResponses(tenantId, null, 51, null);
+    }
+    
+    @Test
+    void getAllProjects_WithCursor_SeeksPastCursorRow() {
+        // Arrange
+        Instant createdAt = Instant.now();
+        UUID lastId = UUID.randomUUID();
+        String cursor = new PageCursor("CREATED_AT:DESC", createdAt.toString(), lastId).encode();
+        when(projectRepository.findResponses(eq(tenantId),
+                argThat(after -> after.getInstantValue().equals(createdAt) && after.getId().equals(lastId)),
+                eq(3), isNull()))
+            .thenReturn(Arrays.asList(projectRow()));
+        
+        // Act
+        CursorPage<ProjectResponse> response = projectService.getAllProjects(cursor, 2, null);
+        
+        // Assert
+        assertEquals(1, response.getItems().size());
+        assertNull(response.getNextCursor());
+        verify(projectRepository, never()).findResponses(any(), isNull(), anyInt(), any());
     }
     
     @Test
@@ -117,4 +159,10 @@ class ProjectServiceTest {
             projectService.getProjectById(projectId);
         });
     }
-}
\ No newline at end of file
+    
+    // List queries project straight into responses, so their stubs return rows, not entities
+    private ProjectResponse projectRow() {
+        return new ProjectResponse(project.getId(), project.getName(), project.getDescription(),
+            project.getCreatedBy(), Instant.now(), Instant.now());
+    }
+}
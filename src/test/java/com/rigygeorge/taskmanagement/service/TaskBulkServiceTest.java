@@ -0,0 +1,183 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.BulkUpdateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.TaskChanges;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
+import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.repository.ProjectRepository;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TenantGenerations tenantGenerations;
+
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+
+    @Mock
+    private TaskEventHub taskEventHub;
+
+    @Mock
+    private SecurityContext securityContext;
+
+    @Mock
+    private Authentication authentication;
+
+    @InjectMocks
+    private TaskBulkService taskBulkService;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        CustomUserDetails currentUser = new CustomUserDetails(
+            UUID.randomUUID(),
+            tenantId,
+            "bulk@test.com",
+            "password",
+            "Bulk",
+            "User",
+            User.Role.ADMIN
+        );
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(currentUser);
+        SecurityContextHolder.setContext(securityContext);
+
+        // Each chunk runs its callback as if in its own committed transaction
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    // The mocked context is thread-local and would leak into later test classes
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void updateTasks_ByIds_SecondChunkFails_AnnouncesFirstChunk() {
+        // Arrange
+        BulkUpdateTaskRequest request = request();
+        request.setIds(randomIds(1500));
+        when(taskRepository.updateByIds(eq(tenantId), any(), any(), any(Instant.class)))
+            .thenReturn(1000)
+            .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        assertThrows(CannotAcquireLockException.class, () -> taskBulkService.updateTasks(request));
+        verify(taskRepository, times(2)).updateByIds(eq(tenantId), any(), any(), any(Instant.class));
+        verifyAnnounced();
+    }
+
+    @Test
+    void updateTasks_ByFilter_SecondChunkFails_AnnouncesFirstChunk() {
+        // Arrange
+        BulkUpdateTaskRequest request = request();
+        request.setFilter(new TaskFilter());
+        List<UUID> firstChunk = randomIds(1000);
+        when(taskRepository.findIdsAfter(any(Specification.class), isNull(), anyInt())).thenReturn(firstChunk);
+        when(taskRepository.findIdsAfter(any(Specification.class), eq(firstChunk.get(999)), anyInt()))
+            .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        assertThrows(CannotAcquireLockException.class, () -> taskBulkService.updateTasks(request));
+        verifyAnnounced();
+    }
+
+    @Test
+    void updateTasks_FirstChunkFails_AnnouncesNothing() {
+        // Arrange
+        BulkUpdateTaskRequest request = request();
+        request.setIds(randomIds(10));
+        when(taskRepository.updateByIds(eq(tenantId), any(), any(), any(Instant.class)))
+            .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        assertThrows(CannotAcquireLockException.class, () -> taskBulkService.updateTasks(request));
+        verifyNoInteractions(tenantGenerations, entityChangePublisher, taskEventHub);
+    }
+
+    @Test
+    void updateTasks_AllChunksSucceed_AnnouncesOnce() {
+        // Arrange
+        BulkUpdateTaskRequest request = request();
+        request.setIds(randomIds(1500));
+        when(taskRepository.updateByIds(eq(tenantId), any(), any(), any(Instant.class)))
+            .thenAnswer(invocation -> invocation.<Collection<UUID>>getArgument(1).size());
+
+        // Act
+        long updated = taskBulkService.updateTasks(request).getUpdated();
+
+        // Assert
+        assertEquals(1500, updated);
+        verifyAnnounced();
+    }
+
+    private void verifyAnnounced() {
+        verify(tenantGenerations).bump(tenantId);
+        verify(entityChangePublisher).publish(EntityChangeEvent.EntityType.TASK, null, tenantId);
+        verify(taskEventHub).publish(eq(tenantId), any(TaskStreamEvent.class));
+    }
+
+    private BulkUpdateTaskRequest request() {
+        TaskChanges changes = new TaskChanges();
+        changes.setStatus(Task.TaskStatus.DONE);
+        BulkUpdateTaskRequest request = new BulkUpdateTaskRequest();
+        request.setChanges(changes);
+        return request;
+    }
+
+    private List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> ids.add(UUID.randomUUID()));
+        return ids;
+    }
+}
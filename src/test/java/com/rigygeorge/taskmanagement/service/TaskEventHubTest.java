@@ -0,0 +1,189 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.dto.TaskStreamEvent;
+import com.rigygeorge.taskmanagement.entity.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventHubTest {
+
+    private final TaskEventHub hub = new TaskEventHub(4, 16, Duration.ofMinutes(5), Duration.ofMinutes(5), 2);
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void publish_DeliversToSubscribersOfSameTenantOnly() throws Exception {
+        RecordingEmitter mine = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        hub.subscribe(tenantId, null, null, null, mine);
+        hub.subscribe(UUID.randomUUID(), null, null, null, other);
+
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_CREATED, projectId));
+
+        assertEquals(TaskStreamEvent.Type.TASK_CREATED, mine.next());
+        assertNull(other.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publish_ProjectFilter_SkipsOtherProjects() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(tenantId, projectId, null, null, emitter);
+
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_CREATED, UUID.randomUUID()));
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_UPDATED, projectId));
+
+        assertEquals(TaskStreamEvent.Type.TASK_UPDATED, emitter.next());
+        assertNull(emitter.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publish_SlowSubscriber_DropsBacklogAndResyncs() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        hub.subscribe(tenantId, null, null, null, slow);
+
+        // The first event occupies the dispatcher; the rest overflow the 4-slot queue
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_CREATED, projectId));
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_UPDATED, projectId));
+        }
+        release.countDown();
+
+        List<TaskStreamEvent.Type> received = new ArrayList<>();
+        TaskStreamEvent.Type type;
+        while ((type = slow.events.poll(500, TimeUnit.MILLISECONDS)) != null) {
+            received.add(type);
+        }
+        assertEquals(TaskStreamEvent.Type.TASK_CREATED, received.get(0));
+        assertEquals(TaskStreamEvent.Type.RESYNC, received.get(1));
+        assertTrue(received.size() < 11, "backlog should have been dropped: " + received);
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ReplaysMissedEvents() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        hub.subscribe(tenantId, null, null, null, first);
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_CREATED, projectId));
+        first.next();
+        String lastEventId = first.lastId;
+
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_UPDATED, projectId));
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_DELETED, projectId));
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        hub.subscribe(tenantId, null, null, lastEventId, resumed);
+
+        assertEquals(TaskStreamEvent.Type.TASK_UPDATED, resumed.next());
+        assertEquals(TaskStreamEvent.Type.TASK_DELETED, resumed.next());
+    }
+
+    @Test
+    void subscribe_WithUnknownLastEventId_SendsResync() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(tenantId, null, null, "other-instance-42", emitter);
+
+        assertEquals(TaskStreamEvent.Type.RESYNC, emitter.next());
+    }
+
+    @Test
+    void subscriber_FailingSend_IsRemoved() throws Exception {
+        RecordingEmitter broken = new RecordingEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) throws java.io.IOException {
+                throw new java.io.IOException("client gone");
+            }
+        };
+        hub.subscribe(tenantId, null, null, null, broken);
+
+        hub.publish(tenantId, taskEvent(TaskStreamEvent.Type.TASK_CREATED, projectId));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (hub.subscriberCount(tenantId) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, hub.subscriberCount(tenantId));
+    }
+
+    private TaskStreamEvent taskEvent(TaskStreamEvent.Type type, UUID taskProjectId) {
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), taskProjectId, "Task", null,
+            Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, null, UUID.randomUUID(), null,
+            Instant.now(), Instant.now());
+        return TaskStreamEvent.task(type, task);
+    }
+
+    // Captures sent events instead of writing to a response
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("id:(\\S+)");
+
+        final BlockingQueue<TaskStreamEvent.Type> events = new LinkedBlockingQueue<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+        volatile String lastId;
+
+        RecordingEmitter() {
+            this(null);
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws java.io.IOException {
+            send(builder.build());
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws java.io.IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (DataWithMediaType item : items) {
+                if (item.getData() instanceof TaskStreamEvent event) {
+                    events.add(event.getType());
+                } else if (item.getData() instanceof String text) {
+                    Matcher matcher = ID.matcher(text);
+                    if (matcher.find()) {
+                        lastId = matcher.group(1);
+                    }
+                }
+            }
+        }
+
+        TaskStreamEvent.Type next() throws InterruptedException {
+            TaskStreamEvent.Type type = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(type, "no event received");
+            return type;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.TaskExportFormat;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
+import com.rigygeorge.taskmanagement.entity.Task;
+import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.repository.TaskRepository;
+import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private SecurityContext securityContext;
+
+    @Mock
+    private Authentication authentication;
+
+    private TaskExportService taskExportService;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        UUID tenantId = UUID.randomUUID();
+        CustomUserDetails currentUser = new CustomUserDetails(
+            UUID.randomUUID(),
+            tenantId,
+            "export@test.com",
+            "password",
+            "Export",
+            "User",
+            User.Role.ADMIN
+        );
+
+        task = new Task();
+        task.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        task.setTenantId(tenantId);
+        task.setProjectId(UUID.fromString("00000000-0000-0000-0000-000000000002"));
+        task.setTitle("Quarterly report, \"final\"");
+        task.setDescription("Line one\nLine two");
+        task.setStatus(Task.TaskStatus.TODO);
+        task.setPriority(Task.TaskPriority.HIGH);
+        task.setCreatedBy(currentUser.getId());
+        task.setCreatedAt(Instant.parse("2024-01-01T10:00:00Z"));
+        task.setUpdatedAt(Instant.parse("2024-01-02T10:00:00Z"));
+
+        taskExportService = new TaskExportService(taskRepository, JsonMapper.builder().build());
+        
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(currentUser);
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    // The mocked context is thread-local and would leak into later test classes
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void exportTasks_Ndjson_WritesOneObjectPerLine() throws Exception {
+        // Arrange
+        Task second = new Task();
+        second.setId(UUID.randomUUID());
+        second.setTitle("Second");
+        when(taskRepository.streamAll(any(Specification.class), any(Sort.class), anyInt()))
+            .thenReturn(Stream.of(task, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.exportTasks(new TaskFilter(), TaskExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"00000000-0000-0000-0000-000000000001\""));
+        assertTrue(lines[0].contains("\"description\":\"Line one\\nLine two\""));
+        assertTrue(lines[0].contains("\"assignedTo\":null"));
+        assertTrue(lines[0].contains("\"createdAt\":\"2024-01-01T10:00:00Z\""));
+        assertTrue(lines[1].startsWith("{"));
+        assertTrue(lines[1].contains("\"title\":\"Second\""));
+    }
+
+    @Test
+    void exportTasks_Csv_QuotesSpecialCharacters() throws Exception {
+        // Arrange
+        when(taskRepository.streamAll(any(Specification.class), any(Sort.class), anyInt()))
+            .thenReturn(Stream.of(task));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.exportTasks(new TaskFilter(), TaskExportFormat.CSV, out);
+
+        // Assert
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,projectId,title,description,status,priority,"));
+        assertTrue(csv.contains(",\"Quarterly report, \"\"final\"\"\",\"Line one\nLine two\",TODO,HIGH,,"));
+    }
+
+    @Test
+    void exportTasks_ClosesRepositoryStream() throws Exception {
+        // Arrange
+        boolean[] closed = {false};
+        when(taskRepository.streamAll(any(Specification.class), any(Sort.class), anyInt()))
+            .thenReturn(Stream.of(task).onClose(() -> closed[0] = true));
+
+        // Act
+        taskExportService.exportTasks(new TaskFilter(), TaskExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        // Assert
+        assertTrue(closed[0]);
+    }
+}
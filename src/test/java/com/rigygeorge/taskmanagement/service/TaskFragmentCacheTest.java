@@ -0,0 +1,111 @@
+package com.rigygeorge.taskmanagement.service;
+
+import com.rigygeorge.taskmanagement.dto.TaskResponse;
+import com.rigygeorge.taskmanagement.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFragmentCacheTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    // 64 blocks of 128 bytes; a task with a short description takes 3 blocks
+    private final TaskFragmentCache cache = new TaskFragmentCache(jsonMapper, true,
+            DataSize.ofBytes(8192), DataSize.ofBytes(128));
+
+    @Test
+    void render_MatchesJacksonOnMissAndOnHit() {
+        List<TaskResponse> tasks = List.of(task("First"), task("Second \"quoted\" é"), task(null));
+        byte[] expected = jsonMapper.writeValueAsBytes(tasks);
+
+        assertArrayEquals(expected, cache.render(tasks));
+        assertArrayEquals(expected, cache.render(tasks));
+
+        assertEquals(3, cache.stats().getHits());
+        assertEquals(3, cache.stats().getMisses());
+        assertEquals(3, cache.stats().getSize());
+    }
+
+    @Test
+    void render_NewUpdatedAt_IsReserialized() {
+        TaskResponse task = task("Before");
+        cache.render(List.of(task));
+
+        task.setTitle("After");
+        task.setUpdatedAt(task.getUpdatedAt().plusMillis(1));
+
+        assertArrayEquals(jsonMapper.writeValueAsBytes(List.of(task)), cache.render(List.of(task)));
+        assertEquals(0, cache.stats().getHits());
+        assertEquals(1, cache.stats().getSize());
+    }
+
+    @Test
+    void evict_FreesOffHeapBlocks() {
+        TaskResponse task = task("Evicted");
+        cache.render(List.of(task));
+        assertTrue(cache.usedBytes() > 0);
+
+        cache.evict(task.getId());
+
+        assertEquals(0, cache.usedBytes());
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    void render_MoreThanFits_EvictsAndStaysWithinCapacity() {
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(task("Task " + i));
+        }
+
+        byte[] rendered = cache.render(tasks);
+
+        assertArrayEquals(jsonMapper.writeValueAsBytes(tasks), rendered);
+        assertTrue(cache.usedBytes() <= cache.capacityBytes());
+        assertTrue(cache.stats().getSize() < 100);
+    }
+
+    @Test
+    void render_RecentlyReadFragment_SurvivesEviction() {
+        TaskResponse hot = task("Hot");
+        cache.render(List.of(hot));
+        // Fill the rest of the cache, reading the hot task once more on the way
+        for (int i = 0; i < 20; i++) {
+            cache.render(List.of(task("Cold " + i)));
+        }
+        cache.render(List.of(hot));
+        for (int i = 0; i < 10; i++) {
+            cache.render(List.of(task("Colder " + i)));
+        }
+
+        long hitsBefore = cache.stats().getHits();
+        cache.render(List.of(hot));
+
+        assertEquals(hitsBefore + 1, cache.stats().getHits());
+    }
+
+    @Test
+    void disabled_AllocatesNothingAndStillRenders() {
+        TaskFragmentCache disabled = new TaskFragmentCache(jsonMapper, false,
+                DataSize.ofMegabytes(64), DataSize.ofBytes(512));
+        List<TaskResponse> tasks = List.of(task("Uncached"));
+
+        assertArrayEquals(jsonMapper.writeValueAsBytes(tasks), disabled.render(tasks));
+        assertEquals(0, disabled.capacityBytes());
+        assertEquals(0, disabled.stats().getSize());
+    }
+
+    private static TaskResponse task(String description) {
+        Instant now = Instant.parse("2030-01-02T03:04:05.123456Z");
+        return new TaskResponse(UUID.randomUUID(), UUID.randomUUID(), "Title", description,
+                Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, null, UUID.randomUUID(), null, now, now);
+    }
+}
@@ -1,34 +1,49 @@
 package com.rigygeorge.taskmanagement.service;
 
 import com.rigygeorge.taskmanagement.dto.CreateTaskRequest;
+import com.rigygeorge.taskmanagement.dto.CursorPage;
+import com.rigygeorge.taskmanagement.dto.EntityTags;
+import com.rigygeorge.taskmanagement.dto.FieldSelection;
+import com.rigygeorge.taskmanagement.dto.PageCursor;
+import com.rigygeorge.taskmanagement.dto.TaskFilter;
 import com.rigygeorge.taskmanagement.dto.TaskResponse;
 import com.rigygeorge.taskmanagement.dto.UpdateTaskRequest;
 import com.rigygeorge.taskmanagement.entity.Project;
 import com.rigygeorge.taskmanagement.entity.Task;
 import com.rigygeorge.taskmanagement.entity.User;
+import com.rigygeorge.taskmanagement.exception.BadRequestException;
+import com.rigygeorge.taskmanagement.exception.PreconditionFailedException;
 import com.rigygeorge.taskmanagement.exception.ResourceNotFoundException;
 import com.rigygeorge.taskmanagement.repository.ProjectRepository;
 import com.rigygeorge.taskmanagement.repository.TaskRepository;
 import com.rigygeorge.taskmanagement.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,15 +55,25 @@ class TaskServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+    
+    @Mock
+    private TaskEventHub taskEventHub;
+    
+    @Mock
+    private TaskFragmentCache taskFragmentCache;
+    
     @Mock
     private SecurityContext securityContext;
     
     @Mock
     private Authentication authentication;
     
-    @InjectMocks
     private TaskService taskService;
     
+    private TenantGenerations tenantGenerations;
+    
     private CustomUserDetails adminUser;
     private CustomUserDetails memberUser;
     private CustomUserDetails otherTenantUser;
@@ -123,6 +148,18 @@ class TaskServiceTest {
         // Setup security context
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
+        
+        // Real generation counter and response cache, so cache hits and invalidation are exercised
+        tenantGenerations = new TenantGenerations();
+        taskService = new TaskService(taskRepository, projectRepository, tenantGenerations,
+            new ResponseCache(tenantGenerations, true, DataSize.ofMegabytes(1), Duration.ofMinutes(1)),
+            entityChangePublisher, taskEventHub, taskFragmentCache);
+    }
+    
+    // The mocked context is thread-local and would leak into later test classes
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
     }
     
     // ============== MULTI-TENANCY TESTS ==============
@@ -199,7 +236,7 @@ class TaskServiceTest {
         
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
-            taskService.updateTask(taskId, request);
+            taskService.updateTask(taskId, request, null);
         });
         
         verify(taskRepository, never()).save(any());
@@ -218,10 +255,10 @@ class TaskServiceTest {
         
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
-            taskService.deleteTask(taskId);
+            taskService.deleteTask(taskId, null);
         });
         
-        verify(taskRepository, never()).delete(any());
+        verify(taskRepository, never()).delete(any(Task.class));
     }
     
     @Test
@@ -239,16 +276,148 @@ class TaskServiceTest {
         task1.setCreatedAt(Instant.now());
         task1.setUpdatedAt(Instant.now());
         
-        when(taskRepository.findByTenantId(tenantId)).thenReturn(Arrays.asList(task1));
+        stubFindResponses(Arrays.asList(task1));
         
         // Act
-        List<TaskResponse> result = taskService.getAllTasks(null, null, null, null);
+        CursorPage<TaskResponse> result = taskService.getAllTasks(new TaskFilter(), null, 50, null);
         
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Tenant A Task", result.get(0).getTitle());
-        verify(taskRepository).findByTenantId(tenantId);
+        assertEquals(1, result.getItems().size());
+        assertEquals("Tenant A Task", result.getItems().get(0).getTitle());
+        assertNull(result.getNextCursor());
+        verify(taskRepository, never()).findByTenantId(any());
+    }
+    
+    @Test
+    void getAllTasks_RepeatedPoll_ServedFromResponseCache() {
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        stubFindResponses(Arrays.asList(task));
+        
+        CursorPage<TaskResponse> first = taskService.getAllTasks(new TaskFilter(), null, 50, null);
+        CursorPage<TaskResponse> second = taskService.getAllTasks(new TaskFilter(), null, 50, null);
+        
+        assertSame(first, second);
+        verify(taskRepository, times(1)).findResponses(any(Specification.class), any(Sort.class), anyInt(), any());
+    }
+    
+    @Test
+    void getAllTasks_AfterWriteInTenant_ReloadsFromRepository() {
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        stubFindResponses(Arrays.asList(task));
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        
+        taskService.getAllTasks(new TaskFilter(), null, 50, null);
+        taskService.deleteTask(taskId, null);
+        taskService.getAllTasks(new TaskFilter(), null, 50, null);
+        
+        verify(taskRepository, times(2)).findResponses(any(Specification.class), any(Sort.class), anyInt(), any());
+    }
+    
+    @Test
+    void getAllTasks_AppliesRequestedSort() {
+        // Arrange
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        stubFindResponses(Arrays.asList(task));
+        
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(Task.TaskStatus.TODO);
+        filter.setAssigneeId(memberUser.getId());
+        filter.setSortBy(TaskFilter.SortField.DUE_DATE);
+        filter.setDirection(Sort.Direction.ASC);
+        
+        // Act
+        CursorPage<TaskResponse> result = taskService.getAllTasks(filter, null, 50, null);
+        
+        // Assert
+        assertEquals(1, result.getItems().size());
+        verify(taskRepository).findResponses(
+            any(Specification.class), eq(Sort.by(Sort.Direction.ASC, "dueDate", "id")), anyInt(), any());
+    }
+    
+    // ============== PAGINATION TESTS ==============
+    
+    @Test
+    void getAllTasks_MoreRowsThanLimit_ReturnsNextCursor() {
+        // Arrange: repository returns limit + 1 rows, signalling another page
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        
+        Task second = new Task();
+        second.setId(UUID.randomUUID());
+        second.setTenantId(tenantId);
+        second.setProjectId(projectId);
+        second.setTitle("Second");
+        second.setCreatedAt(task.getCreatedAt().minusSeconds(60));
+        
+        stubFindResponses(Arrays.asList(task, second));
+        
+        // Act
+        CursorPage<TaskResponse> result = taskService.getAllTasks(new TaskFilter(), null, 1, null);
+        
+        // Assert
+        verify(taskRepository).findResponses(any(Specification.class), any(Sort.class), eq(2), any());
+        assertEquals(1, result.getItems().size());
+        assertNotNull(result.getNextCursor());
+        
+        PageCursor cursor = PageCursor.decode(result.getNextCursor());
+        assertEquals(taskId, cursor.getId());
+        assertEquals(task.getCreatedAt(), cursor.getInstantValue());
+        assertEquals("CREATED_AT:DESC", cursor.getSortKey());
+    }
+    
+    @Test
+    void getAllTasks_LimitAboveMaximum_IsCapped() {
+        // Arrange
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        stubFindResponses(Arrays.asList(task));
+        
+        // Act
+        taskService.getAllTasks(new TaskFilter(), null, 10_000, null);
+        
+        // Assert
+        verify(taskRepository).findResponses(
+            any(Specification.class), any(Sort.class), eq(PageCursor.MAX_LIMIT + 1), any());
+    }
+    
+    @Test
+    void getAllTasks_WithFields_ReadsSelectedColumnsPlusCursorKeys() {
+        // Arrange
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        stubFindResponses(List.of(task));
+        TaskFilter filter = new TaskFilter();
+        filter.setSortBy(TaskFilter.SortField.DUE_DATE);
+        FieldSelection fields = FieldSelection.parse("title,status", TaskResponse.FIELDS);
+        
+        // Act
+        taskService.getAllTasks(filter, null, 50, fields);
+        
+        // Assert: the cursor needs the id and the sort column even when not asked for
+        verify(taskRepository).findResponses(any(Specification.class), any(Sort.class), anyInt(),
+            eq(Set.of("title", "status", "id", "dueDate")));
+    }
+    
+    @Test
+    void getAllTasks_MalformedCursor_ThrowsBadRequestException() {
+        // Arrange
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> {
+            taskService.getAllTasks(new TaskFilter(), "not-a-cursor", 50, null);
+        });
+        verify(taskRepository, never()).findResponses(any(Specification.class), any(Sort.class), anyInt(), any());
+    }
+    
+    @Test
+    void getAllTasks_CursorFromDifferentSort_ThrowsBadRequestException() {
+        // Arrange
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        String titleCursor = new PageCursor("TITLE:ASC", "Alpha", UUID.randomUUID()).encode();
+        
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> {
+            taskService.getAllTasks(new TaskFilter(), titleCursor, 50, null);
+        });
     }
     
     @Test
@@ -264,7 +433,7 @@ class TaskServiceTest {
         
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
-            taskService.getTasksByProject(projectId);
+            taskService.getTasksByProject(projectId, null, 50, null);
         });
     }
     
@@ -352,11 +521,12 @@ class TaskServiceTest {
         request.setStatus(Task.TaskStatus.IN_PROGRESS);
         
         // Act
-        TaskResponse result = taskService.updateTask(taskId, request);
+        TaskResponse result = taskService.updateTask(taskId, request, null);
         
         // Assert
         assertNotNull(result);
         verify(taskRepository).save(any(Task.class));
+        verify(taskFragmentCache).evict(taskId);
     }
     
     @Test
@@ -366,10 +536,49 @@ class TaskServiceTest {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
         
         // Act
-        taskService.deleteTask(taskId);
+        taskService.deleteTask(taskId, null);
         
         // Assert
         verify(taskRepository).delete(task);
+        verify(taskFragmentCache).evict(taskId);
+    }
+    
+    @Test
+    void updateTask_IfMatchCurrent_LocksRowAndUpdates() {
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        when(taskRepository.findByIdForUpdate(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated Title");
+        
+        taskService.updateTask(taskId, request, EntityTags.of(task.getUpdatedAt()));
+        
+        verify(taskRepository).save(task);
+        verify(taskRepository, never()).findById(any());
+    }
+    
+    @Test
+    void updateTask_IfMatchStale_ThrowsPreconditionFailed() {
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        when(taskRepository.findByIdForUpdate(taskId)).thenReturn(Optional.of(task));
+        
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Lost Update");
+        String staleTag = EntityTags.of(task.getUpdatedAt().minusSeconds(1));
+        
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(taskId, request, staleTag));
+        verify(taskRepository, never()).save(any());
+    }
+    
+    @Test
+    void deleteTask_IfMatchStale_ThrowsPreconditionFailed() {
+        when(authentication.getPrincipal()).thenReturn(adminUser);
+        when(taskRepository.findByIdForUpdate(taskId)).thenReturn(Optional.of(task));
+        String staleTag = EntityTags.of(task.getUpdatedAt().minusSeconds(1));
+        
+        assertThrows(PreconditionFailedException.class, () -> taskService.deleteTask(taskId, staleTag));
+        verify(taskRepository, never()).delete(any(Task.class));
     }
     
     // ============== FILTERING TESTS ==============
@@ -389,17 +598,15 @@ class TaskServiceTest {
         todoTask.setCreatedAt(Instant.now());
         todoTask.setUpdatedAt(Instant.now());
         
-        when(taskRepository.findByTenantIdAndStatus(tenantId, Task.TaskStatus.TODO))
-            .thenReturn(Arrays.asList(todoTask));
+        stubFindResponses(Arrays.asList(todoTask));
         
         // Act
-        List<TaskResponse> result = taskService.getTasksByStatus(Task.TaskStatus.TODO);
+        List<TaskResponse> result = taskService.getTasksByStatus(Task.TaskStatus.TODO, null, 50, null).getItems();
         
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(Task.TaskStatus.TODO, result.get(0).getStatus());
-        verify(taskRepository).findByTenantIdAndStatus(tenantId, Task.TaskStatus.TODO);
     }
     
     @Test
@@ -417,17 +624,15 @@ class TaskServiceTest {
         highPriorityTask.setCreatedAt(Instant.now());
         highPriorityTask.setUpdatedAt(Instant.now());
         
-        when(taskRepository.findByTenantIdAndPriority(tenantId, Task.TaskPriority.HIGH))
-            .thenReturn(Arrays.asList(highPriorityTask));
+        stubFindResponses(Arrays.asList(highPriorityTask));
         
         // Act
-        List<TaskResponse> result = taskService.getTasksByPriority(Task.TaskPriority.HIGH);
+        List<TaskResponse> result = taskService.getTasksByPriority(Task.TaskPriority.HIGH, null, 50, null).getItems();
         
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(Task.TaskPriority.HIGH, result.get(0).getPriority());
-        verify(taskRepository).findByTenantIdAndPriority(tenantId, Task.TaskPriority.HIGH);
     }
     
     @Test
@@ -446,17 +651,15 @@ class TaskServiceTest {
         myTask.setCreatedAt(Instant.now());
         myTask.setUpdatedAt(Instant.now());
         
-        when(taskRepository.findByTenantIdAndAssignedTo(tenantId, memberUser.getId()))
-            .thenReturn(Arrays.asList(myTask));
+        stubFindResponses(Arrays.asList(myTask));
         
         // Act
-        List<TaskResponse> result = taskService.getMyTasks();
+        List<TaskResponse> result = taskService.getMyTasks(null, 50, null).getItems();
         
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(memberUser.getId(), result.get(0).getAssignedTo());
-        verify(taskRepository).findByTenantIdAndAssignedTo(tenantId, memberUser.getId());
     }
     
     @Test
@@ -475,15 +678,25 @@ class TaskServiceTest {
         projectTask.setCreatedAt(Instant.now());
         projectTask.setUpdatedAt(Instant.now());
         
-        when(taskRepository.findByProjectId(projectId))
-            .thenReturn(Arrays.asList(projectTask));
+        stubFindResponses(Arrays.asList(projectTask));
         
         // Act
-        List<TaskResponse> result = taskService.getTasksByProject(projectId);
+        List<TaskResponse> result = taskService.getTasksByProject(projectId, null, 50, null).getItems();
         
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(projectId, result.get(0).getProjectId());
     }
-}
\ No newline at end of file
+    
+    // List queries project straight into responses, so the stub maps the
+    // fixture entities to the rows the constructor expression would build
+    private void stubFindResponses(List<Task> tasks) {
+        List<TaskResponse> rows = tasks.stream()
+            .map(t -> new TaskResponse(t.getId(), t.getProjectId(), t.getTitle(), t.getDescription(),
+                t.getStatus(), t.getPriority(), t.getAssignedTo(), t.getCreatedBy(), t.getDueDate(),
+                t.getCreatedAt(), t.getUpdatedAt()))
+            .collect(Collectors.toList());
+        when(taskRepository.findResponses(any(Specification.class), any(Sort.class), anyInt(), any())).thenReturn(rows);
+    }
+}